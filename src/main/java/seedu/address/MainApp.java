@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -15,7 +16,9 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.ProgressiveLoad;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -23,11 +26,18 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedAddressBookStorage;
+import seedu.address.storage.ProgressiveAddressBookReader;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.SqliteAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -43,6 +53,8 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected WriteBehindStorage writeBehindStorage;
+    protected ProgressiveLoad progressiveLoad;
     protected Model model;
     protected Config config;
 
@@ -57,20 +69,112 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        StorageManager storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
+        if (isWrittenBehind(addressBookStorage)) {
+            writeBehindStorage = new WriteBehindStorage(storageManager);
+            storage = writeBehindStorage;
+        } else {
+            storage = storageManager;
+        }
 
-        model = initModelManager(storage, userPrefs);
+        if (isLoadedProgressively(userPrefs)) {
+            ProgressiveAddressBookReader reader = new ProgressiveAddressBookReader(userPrefs.getAddressBookFilePath());
+            model = initPartialModelManager(reader, userPrefs);
+            if (model != null) {
+                progressiveLoad = new ProgressiveLoad(model, reader, Platform::runLater);
+            }
+        }
+        if (model == null) {
+            model = initModelManager(storage, userPrefs);
+        }
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, progressiveLoad);
 
         ui = new UiManager(logic);
+
+        if (writeBehindStorage != null) {
+            writeBehindStorage.setSaveFailureHandler(e -> {
+                logic.markAddressBookUnsaved();
+                Platform.runLater(() -> ui.showFeedback(LogicManager.getSaveFailureMessage(e)));
+            });
+        }
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file and storage mode chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        if (userPrefs.isAddressBookReadOnly()) {
+            logger.info("Opening the data file read-only");
+            return new MappedAddressBookStorage(addressBookFilePath);
+        }
+        if (userPrefs.getAddressBookFormat() == AddressBookFormat.BINARY) {
+            logger.info("Storing the data file as a binary snapshot");
+            return new BinaryAddressBookStorage(addressBookFilePath, userPrefs.getAddressBookSaveDurability());
+        }
+        if (userPrefs.getAddressBookFormat() == AddressBookFormat.SHARDED) {
+            logger.info("Storing the data as a directory of shards");
+            return new ShardedAddressBookStorage(addressBookFilePath, userPrefs.isAddressBookCompact(),
+                    userPrefs.getAddressBookSaveDurability());
+        }
+        if (userPrefs.getAddressBookFormat() == AddressBookFormat.SQLITE) {
+            logger.info("Storing the data in an SQLite database");
+            return new SqliteAddressBookStorage(addressBookFilePath);
+        }
+        if (userPrefs.isAddressBookJournaled()) {
+            logger.info("Journaling changes to the data file");
+            return new JournaledAddressBookStorage(addressBookFilePath, userPrefs.isAddressBookCompact(),
+                    userPrefs.getAddressBookSaveDurability(), userPrefs.getAddressBookCompressionLevel());
+        }
+        return new JsonAddressBookStorage(addressBookFilePath, userPrefs.isAddressBookCompact(),
+                userPrefs.getAddressBookSaveDurability(), userPrefs.getAddressBookCompressionLevel());
+    }
+
+    /**
+     * Returns true if saves to {@code addressBookStorage} are to be written on a background thread.
+     * An SQLite database is saved on the calling thread instead, so that each command's changes are committed in
+     * a transaction of their own rather than merged with those of the commands after it.
+     */
+    private boolean isWrittenBehind(AddressBookStorage addressBookStorage) {
+        return !(addressBookStorage instanceof SqliteAddressBookStorage);
+    }
+
+    /**
+     * Returns true if the contracts and appointments of the data file are to be loaded after the main window is
+     * shown. Only a plain JSON data file can be loaded this way.
+     */
+    private boolean isLoadedProgressively(ReadOnlyUserPrefs userPrefs) {
+        return userPrefs.isAddressBookLoadedProgressively()
+                && !userPrefs.isAddressBookReadOnly()
+                && userPrefs.getAddressBookFormat() == AddressBookFormat.JSON
+                && !userPrefs.isAddressBookJournaled();
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the contacts and policies in {@code reader}'s data file and
+     * {@code userPrefs}, or null if the data file does not exist or cannot be loaded, in which case the
+     * address book is loaded as usual.
+     */
+    private Model initPartialModelManager(ProgressiveAddressBookReader reader, ReadOnlyUserPrefs userPrefs) {
+        try {
+            Optional<ReadOnlyAddressBook> partialData = reader.readContactsAndPolicies();
+            if (partialData.isPresent()) {
+                logger.info("Loading contracts and appointments after the main window is shown");
+                return new ModelManager(partialData.get(), userPrefs);
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Contacts and policies in " + reader.getAddressBookFilePath() + " could not be loaded.");
+        }
+        return null;
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * If the data file is open read-only, the model shows the address book read without copying it.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -90,6 +194,9 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
+        if (userPrefs.isAddressBookReadOnly()) {
+            return ModelManager.readOnly(initialData, userPrefs);
+        }
         return new ModelManager(initialData, userPrefs);
     }
 
@@ -172,11 +279,22 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (progressiveLoad != null) {
+            progressiveLoad.start();
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (writeBehindStorage != null) {
+            try {
+                writeBehindStorage.shutdown();
+            } catch (IOException e) {
+                logger.severe("Failed to save the address book, changes since it was last saved are lost "
+                        + StringUtil.getDetails(e));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
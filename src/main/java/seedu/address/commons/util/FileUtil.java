@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.function.BooleanSupplier;
 
 /**
  * Writes and reads files
@@ -80,4 +88,144 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}. {@code out} may be closed when done, but need not be.
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Writes the content of a file to a channel, in any order.
+     */
+    @FunctionalInterface
+    public interface ChannelWriter {
+        /**
+         * Writes the content to {@code channel}, which is open for writing at the start of an empty file.
+         * {@code channel} must not be closed.
+         */
+        void write(FileChannel channel) throws IOException;
+    }
+
+    /**
+     * Replaces {@code file} with the content written by {@code writer}, creating it if it does not exist.
+     * The content is written to a temporary file beside {@code file}, which is then moved over {@code file} in a
+     * single atomic step, so {@code file} is never left partly written. The temporary file is given the permissions
+     * of {@code file} first, so that they are kept. {@code durability} decides what is forced to disk before this
+     * method returns.
+     *
+     * @throws IOException if the content cannot be written or moved into place, in which case {@code file} is left
+     *     as it was.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer, SaveDurability durability)
+            throws IOException {
+        writeAtomically(file, writer, durability, () -> true);
+    }
+
+    /**
+     * Similar to {@link #writeAtomically(Path, ContentWriter, SaveDurability)}, but once the content has been
+     * written, {@code file} is only replaced if {@code isReplacementNeeded} returns true. Otherwise the temporary
+     * file is deleted without being forced to disk.
+     *
+     * @return true if {@code file} was replaced.
+     */
+    public static boolean writeAtomically(Path file, ContentWriter writer, SaveDurability durability,
+                                          BooleanSupplier isReplacementNeeded) throws IOException {
+        return replaceAtomically(file, channel -> writer.write(
+                new UnclosableOutputStream(Channels.newOutputStream(channel))), durability, isReplacementNeeded);
+    }
+
+    /**
+     * Similar to {@link #writeAtomically(Path, ContentWriter, SaveDurability)}, but {@code writer} writes to the
+     * channel of the temporary file, so that it can write the content out of order.
+     */
+    public static void writeChannelAtomically(Path file, ChannelWriter writer, SaveDurability durability)
+            throws IOException {
+        replaceAtomically(file, writer, durability, () -> true);
+    }
+
+    private static boolean replaceAtomically(Path file, ChannelWriter writer, SaveDurability durability,
+                                             BooleanSupplier isReplacementNeeded) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, "." + file.getFileName(), ".tmp");
+        try {
+            boolean isReplacing;
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                writer.write(channel);
+                isReplacing = isReplacementNeeded.getAsBoolean();
+                if (isReplacing && durability != SaveDurability.NONE) {
+                    channel.force(true);
+                }
+            }
+            if (!isReplacing) {
+                Files.delete(tempFile);
+                return false;
+            }
+            copyPermissions(file, tempFile);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (durability == SaveDurability.FSYNC_FILE_AND_DIR) {
+            forceDirectory(directory);
+        }
+        return true;
+    }
+
+    /**
+     * Gives {@code tempFile} the POSIX permissions of {@code file}, if {@code file} exists and its file system has
+     * them, since a temporary file is created readable only by its owner.
+     */
+    private static void copyPermissions(Path file, Path tempFile) throws IOException {
+        if (!Files.exists(file)
+                || !Files.getFileStore(file).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            return;
+        }
+        Files.setPosixFilePermissions(tempFile, Files.getPosixFilePermissions(file));
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, so that files created, moved or deleted in it stay that way.
+     * Some platforms, such as Windows, cannot open a directory for this; there the entries are left to the file
+     * system's own guarantees.
+     */
+    public static void forceDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * An output stream whose {@code close} only flushes, so that a writer that closes its stream does not close the
+     * channel before it is forced.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
 }
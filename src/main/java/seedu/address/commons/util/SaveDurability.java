@@ -0,0 +1,15 @@
+package seedu.address.commons.util;
+
+/**
+ * How far a file save makes sure its data has reached the disk before it returns.
+ * Every level replaces the file atomically, so a crash leaves either the old or the new file, never a mix. The
+ * levels differ in whether the new file is still there after a power loss or an operating system crash.
+ */
+public enum SaveDurability {
+    /** The operating system writes the new file to disk when it sees fit. The fastest level. */
+    NONE,
+    /** The new file's contents are forced to disk before it replaces the old file. */
+    FSYNC_FILE,
+    /** As {@link #FSYNC_FILE}, and the directory is also forced to disk so that the replacement itself persists. */
+    FSYNC_FILE_AND_DIR
+}
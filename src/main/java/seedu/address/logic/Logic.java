@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 
+import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -27,6 +28,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Marks the address book as unsaved, so that it is saved again after the next command.
+     * May be called from any thread, such as by a save that failed in the background.
+     */
+    void markAddressBookUnsaved();
+
     /**
      * Returns the AddressBook.
      *
@@ -59,6 +66,11 @@ public interface Logic {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the status of loading the address book, which is empty when there is nothing to report.
+     */
+    ReadOnlyStringProperty getAddressBookLoadStatus();
+
     /**
      * Returns the user prefs' GUI settings.
      */
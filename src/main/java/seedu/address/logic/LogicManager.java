@@ -5,6 +5,8 @@ import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -30,19 +32,47 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_READ_ONLY =
+            "The data file is open read-only, so commands that change the address book cannot be used.";
+
+    public static final String MESSAGE_LOAD_INTERRUPTED = "Interrupted while loading the rest of the data file.";
+
+    /** A saved version that no address book has, so that the address book is saved after the next command. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final ProgressiveLoad progressiveLoad;
+    private final ReadOnlyStringProperty loadStatus;
+    private boolean isFullyLoaded;
+    private volatile long savedVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book currently held by {@code model} is taken to be the one already in {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, where {@code model} only
+     * holds part of the address book until {@code progressiveLoad} completes.
+     * Commands that need the whole address book wait for the load to complete, and nothing is saved before then.
+     */
+    public LogicManager(Model model, Storage storage, ProgressiveLoad progressiveLoad) {
         this.model = model;
         this.storage = storage;
+        this.progressiveLoad = progressiveLoad;
         addressBookParser = new AddressBookParser();
+        loadStatus = progressiveLoad == null
+                ? new SimpleStringProperty("")
+                : progressiveLoad.statusProperty();
+        isFullyLoaded = progressiveLoad == null;
+        savedVersion = model.getAddressBookVersion();
     }
 
     @Override
@@ -51,19 +81,69 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        if (command.modifiesAddressBook() && model.isAddressBookReadOnly()) {
+            throw new CommandException(MESSAGE_READ_ONLY);
+        }
+        if (command.requiresFullAddressBook()) {
+            awaitFullAddressBook();
+        }
         commandResult = command.execute(model);
 
+        long version = model.getAddressBookVersion();
+        if (!isFullyLoaded) {
+            logger.fine("Address book still loading, skipping save");
+            return commandResult;
+        }
+        if (version == savedVersion) {
+            logger.fine("Address book unchanged, skipping save");
+            return commandResult;
+        }
+
+        // Marked saved before saving, so that a save that later fails in the background can mark it unsaved again.
+        savedVersion = version;
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            markAddressBookUnsaved();
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void markAddressBookUnsaved() {
+        savedVersion = UNSAVED_VERSION;
+    }
+
+    /**
+     * Waits for the rest of the address book to be loaded, if it is still loading.
+     * The fully loaded address book is the one in storage, so it is taken to be saved.
+     */
+    private void awaitFullAddressBook() throws CommandException {
+        if (isFullyLoaded) {
+            return;
+        }
+        try {
+            progressiveLoad.awaitCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_LOAD_INTERRUPTED, e);
+        }
+        isFullyLoaded = true;
+        savedVersion = model.getAddressBookVersion();
+    }
+
+    /**
+     * Returns the message shown to the user when saving the address book fails with {@code e}.
+     */
+    public static String getSaveFailureMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -110,6 +190,11 @@ public class LogicManager implements Logic {
         return model.getAddressBookFilePath();
     }
 
+    @Override
+    public ReadOnlyStringProperty getAddressBookLoadStatus() {
+        return loadStatus;
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
@@ -0,0 +1,169 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.exceptions.DuplicateContractException;
+import seedu.address.storage.ProgressiveAddressBookReader;
+
+/**
+ * Loads the contracts and appointments of an address book whose contacts and policies are already in the model.
+ * The data file is read on a background thread. Each chunk read is queued and appended to the model on the UI
+ * thread, through {@code uiExecutor}, so the model is only ever modified on the UI thread.
+ * <p>
+ * A command that needs the whole address book calls {@link #awaitCompletion()}, which appends the queued chunks
+ * on the calling UI thread as they are read instead of waiting for the UI thread to get to them.
+ */
+public class ProgressiveLoad {
+
+    public static final String MESSAGE_LOADING = "Loading contracts and appointments... %d%%";
+    public static final String MESSAGE_LOAD_FAILED = "Contracts and appointments could not be loaded."
+            + " Started with an empty address book.";
+
+    private static final Logger logger = LogsCenter.getLogger(ProgressiveLoad.class);
+
+    private final Model model;
+    private final ProgressiveAddressBookReader reader;
+    private final Executor uiExecutor;
+    private final BlockingQueue<Runnable> pendingSteps = new LinkedBlockingQueue<>();
+    private final StringProperty status = new SimpleStringProperty("");
+    private boolean isComplete = false;
+    private volatile boolean isCancelled = false;
+
+    /**
+     * Creates a {@code ProgressiveLoad} that appends the contracts and appointments read by {@code reader} to
+     * {@code model}, running each append with {@code uiExecutor}.
+     */
+    public ProgressiveLoad(Model model, ProgressiveAddressBookReader reader, Executor uiExecutor) {
+        requireAllNonNull(model, reader, uiExecutor);
+        this.model = model;
+        this.reader = reader;
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Starts reading the contracts and appointments on a background thread.
+     */
+    public void start() {
+        status.set(String.format(MESSAGE_LOADING, 0));
+        Thread loader = new Thread(this::readRemainingData, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Returns the loading status to show to the user. It is empty once loading has succeeded.
+     * The status is only updated on the UI thread.
+     */
+    public ReadOnlyStringProperty statusProperty() {
+        return status;
+    }
+
+    /**
+     * Returns true once every contract and appointment has been appended to the model, or loading has failed.
+     * Must be called on the UI thread.
+     */
+    public boolean isComplete() {
+        return isComplete;
+    }
+
+    /**
+     * Appends the rest of the contracts and appointments to the model, waiting for the background thread to read
+     * them. Must be called on the UI thread.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting.
+     */
+    public void awaitCompletion() throws InterruptedException {
+        while (!isComplete) {
+            runStep(pendingSteps.take());
+        }
+    }
+
+    /**
+     * Reads the contracts and appointments and queues them for the UI thread. Reading stops early once loading has
+     * failed, since nothing more would be appended.
+     */
+    void readRemainingData() {
+        try {
+            reader.readContractsAndAppointments(this::postChunk);
+            post(this::complete);
+        } catch (DataLoadingException e) {
+            logger.warning("Contracts and appointments in " + reader.getAddressBookFilePath()
+                    + " could not be loaded: " + e.getMessage());
+            post(this::fail);
+        } catch (CancellationException e) {
+            logger.info("Stopped reading " + reader.getAddressBookFilePath() + " as loading has failed");
+        }
+    }
+
+    private void postChunk(List<Contract> contracts, List<Appointment> appointments, double progress) {
+        if (isCancelled) {
+            throw new CancellationException();
+        }
+        post(() -> {
+            model.appendLoadedData(contracts, appointments);
+            status.set(String.format(MESSAGE_LOADING, Math.round(progress * 100)));
+        });
+    }
+
+    /**
+     * Queues {@code step} and asks the UI thread to run the queued steps.
+     */
+    private void post(Runnable step) {
+        if (isCancelled) {
+            return;
+        }
+        pendingSteps.add(step);
+        uiExecutor.execute(this::runPendingSteps);
+    }
+
+    private void runPendingSteps() {
+        Runnable step;
+        while (!isComplete && (step = pendingSteps.poll()) != null) {
+            runStep(step);
+        }
+    }
+
+    private void runStep(Runnable step) {
+        try {
+            step.run();
+        } catch (DuplicateContractException | DuplicateAppointmentException e) {
+            logger.warning("Duplicate contracts or appointments in " + reader.getAddressBookFilePath());
+            fail();
+        }
+    }
+
+    private void complete() {
+        isComplete = true;
+        status.set("");
+        logger.info("Finished loading contracts and appointments");
+    }
+
+    /**
+     * Discards everything loaded so far, as a data file that cannot be fully loaded is treated at startup, and
+     * stops the background thread from reading any further.
+     */
+    private void fail() {
+        isCancelled = true;
+        isComplete = true;
+        pendingSteps.clear();
+        model.setAddressBook(new AddressBook());
+        status.set(MESSAGE_LOAD_FAILED);
+    }
+}
@@ -17,4 +17,18 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command reads or modifies the address book, and so must wait for it to be fully loaded.
+     */
+    public boolean requiresFullAddressBook() {
+        return true;
+    }
+
+    /**
+     * Returns true if the command may change the address book, and so cannot run while it is open read-only.
+     */
+    public boolean modifiesAddressBook() {
+        return true;
+    }
+
 }
@@ -63,10 +63,10 @@ public class EditAppointmentCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(aId);
 
-        if (!model.hasAppointment(aId)) {
+        Appointment appointmentToEdit = model.getAppointment(aId);
+        if (appointmentToEdit == null) {
             throw new CommandException(String.format(Messages.MESSAGE_APPOINTMENT_NOT_FOUND, aId));
         }
-        Appointment appointmentToEdit = model.getAppointment(aId);
         Appointment editedAppointment = createEditedAppointment(appointmentToEdit, editAppointmentDescriptor, model);
 
         if (!appointmentToEdit.isSameAppointment(editedAppointment) && model.hasAppointment(editedAppointment)) {
@@ -11,7 +11,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -75,13 +74,9 @@ public class EditContactCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Contact> list = model.getUniqueContactList();
+        Contact contactToEdit = model.getContact(nric);
 
-        if (list.stream().anyMatch(x -> x.getNric().equals(nric))) {
-            Contact contactToEdit = list.stream()
-                    .filter(x -> x.getNric().equals(nric))
-                    .findFirst()
-                    .get();
+        if (contactToEdit != null) {
             Contact editedContact = createEditedContact(contactToEdit, editContactDescriptor);
 
             if (!contactToEdit.isSameContact(editedContact) && model.hasContact(editedContact)) {
@@ -13,7 +13,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PREMIUM;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.util.CollectionUtil;
@@ -70,13 +69,9 @@ public class EditContractCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(cId);
-        List<Contract> list = model.getUniqueContractList();
+        Contract contractToEdit = model.getContract(cId);
 
-        if (hasContractId(list, cId)) {
-            Contract contractToEdit = list.stream()
-                    .filter(x -> x.getCId().equals(cId))
-                    .findFirst()
-                    .get();
+        if (contractToEdit != null) {
             Contract editedContract = createEditedContract(contractToEdit, editContractDescriptor, model);
 
             if (!contractToEdit.isSameContract(editedContract) && model.hasContract(editedContract)) {
@@ -103,10 +98,6 @@ public class EditContractCommand extends Command {
         model.updateFilteredContractList(Model.PREDICATE_SHOW_ALL_CONTRACTS);
     }
 
-    private static boolean hasContractId(List<Contract> contractList, ContractId cId) {
-        return contractList.stream().anyMatch(x -> x.getCId().equals(cId));
-    }
-
     /**
      * Creates and returns a {@code Contract} with the details of {@code contractToEdit}
      * edited with {@code editContractDescriptor}.
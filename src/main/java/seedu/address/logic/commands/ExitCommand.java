@@ -17,4 +17,13 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true, ListPanelType.CURRENT);
     }
 
+    @Override
+    public boolean requiresFullAddressBook() {
+        return false;
+    }
+
+    @Override
+    public boolean modifiesAddressBook() {
+        return false;
+    }
 }
@@ -19,4 +19,14 @@ public class HelpCommand extends Command {
     public CommandResult execute(Model model) {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false, ListPanelType.CURRENT);
     }
+
+    @Override
+    public boolean requiresFullAddressBook() {
+        return false;
+    }
+
+    @Override
+    public boolean modifiesAddressBook() {
+        return false;
+    }
 }
@@ -37,10 +37,10 @@ public class RemoveAppointmentCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (!model.hasAppointment(aId)) {
+        Appointment appointmentToRemove = model.getAppointment(aId);
+        if (appointmentToRemove == null) {
             throw new CommandException(Messages.MESSAGE_APPOINTMENT_NOT_FOUND);
         }
-        Appointment appointmentToRemove = model.getAppointment(aId);
         model.removeAppointment(appointmentToRemove);
         return new CommandResult(String.format(MESSAGE_REMOVE_APPOINTMENT_SUCCESS, appointmentToRemove.getAId()),
                 ListPanelType.APPOINTMENT);
@@ -2,14 +2,12 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_APPOINTMENTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
 
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -18,6 +16,8 @@ import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentId;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.NricContainsKeywordsPredicate;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractId;
 import seedu.address.ui.ListPanelType;
 
 /**
@@ -61,12 +61,13 @@ public class RemoveContactCommand extends Command {
         Contact contact = lastShownList.get(contactIndex.getZeroBased());
 
         //check for existing contracts
-        if (!contact.getContracts().isEmpty()) {
-            String existingContractIds = contact.getContractIdsAsString();
+        List<Contract> contractList = model.getContracts(contact.getNric());
+        if (!contractList.isEmpty()) {
+            String existingContractIds = stringifyContractIds(contractList);
             throw new CommandException(String.format(MESSAGE_REMOVE_CONTACT_PENDING, existingContractIds));
         }
         //check existing appointments
-        List<Appointment> appointmentList = getAppointmentListUnderContact(model, contact);
+        List<Appointment> appointmentList = model.getAppointments(contact.getNric());
         if (!appointmentList.isEmpty()) {
             String existingAppointmentIds = stringifyAppointmentIds(appointmentList);
             throw new CommandException(String.format(MESSAGE_REMOVE_CONTACT_HAS_APPOINTMENT, existingAppointmentIds));
@@ -99,6 +100,13 @@ public class RemoveContactCommand extends Command {
         return predicate.equals(otherRemoveContactCommand.predicate);
     }
 
+    private String stringifyContractIds(List<Contract> contractList) {
+        return contractList.stream()
+                .map(Contract::getCId)
+                .map(ContractId::toString)
+                .collect(Collectors.joining(", "));
+    }
+
     private String stringifyAppointmentIds(List<Appointment> appointmentList) {
         return appointmentList.stream()
                 .map(Appointment::getAId)
@@ -106,14 +114,6 @@ public class RemoveContactCommand extends Command {
                 .collect(Collectors.joining(", "));
     }
 
-    private List<Appointment> getAppointmentListUnderContact(Model model, Contact contact) {
-        model.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
-        ObservableList<Appointment> appointmentList = model.getFilteredAppointmentList();
-        return appointmentList.stream()
-                .filter(a -> a.getNric().equals(contact.getNric()))
-                .collect(Collectors.toList());
-    }
-
     @Override
     public String toString() {
         return new ToStringBuilder(this)
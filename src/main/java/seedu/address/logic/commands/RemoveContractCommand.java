@@ -3,8 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CID;
 
-import java.util.List;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -38,9 +36,7 @@ public class RemoveContractCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Contract> list = model.getUniqueContractList();
-
-        Contract contractToRemove = getContractToRemove(list);
+        Contract contractToRemove = getContractToRemove(model);
         model.removeContract(contractToRemove);
         model.removeContractFromContact(contractToRemove);
         model.removeContractFromPolicy(contractToRemove);
@@ -48,11 +44,17 @@ public class RemoveContractCommand extends Command {
                 ListPanelType.CONTRACT);
     }
 
-    public Contract getContractToRemove(List<Contract> contractList) throws CommandException {
-        return contractList.stream()
-            .filter(x -> x.getCId().equals(cId))
-            .findFirst()
-            .orElseThrow(() -> new CommandException(Messages.MESSAGE_CONTRACT_NOT_FOUND));
+    /**
+     * Returns the contract in {@code model} identified by this command's contract id.
+     *
+     * @throws CommandException if no contract with the id exists.
+     */
+    public Contract getContractToRemove(Model model) throws CommandException {
+        Contract contractToRemove = model.getContract(cId);
+        if (contractToRemove == null) {
+            throw new CommandException(Messages.MESSAGE_CONTRACT_NOT_FOUND);
+        }
+        return contractToRemove;
     }
 
     @Override
@@ -4,7 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PID;
 
-import java.util.Set;
+import java.util.Collection;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -52,7 +53,7 @@ public class RemovePolicyCommand extends Command {
             throw new CommandException(Messages.MESSAGE_POLICY_NOT_FOUND);
         }
         Policy policyToRemove = model.getPolicy(targetId);
-        Set<Contract> existingContracts = policyToRemove.getContracts();
+        List<Contract> existingContracts = model.getContracts(targetId);
         if (!existingContracts.isEmpty()) {
             String existingContractIds = stringifyPendingContracts(existingContracts);
             throw new CommandException(String.format(MESSAGE_REMOVE_POLICY_PENDING, existingContractIds));
@@ -64,10 +65,10 @@ public class RemovePolicyCommand extends Command {
 
     /**
      * Returns a string of contracts that still exist under the policy
-     * @param pendingContracts the set of contracts to stringify
+     * @param pendingContracts the contracts to stringify
      * @return string of contracts joined by the "," separator
      */
-    public String stringifyPendingContracts(Set<Contract> pendingContracts) {
+    public String stringifyPendingContracts(Collection<Contract> pendingContracts) {
         return pendingContracts.stream()
                 .map(Contract::getCId)
                 .map(ContractId::toString)
@@ -78,4 +78,9 @@ public class SortAppointmentCommand extends Command {
                 .add("comparatorType", comparatorType)
                 .toString();
     }
+
+    @Override
+    public boolean modifiesAddressBook() {
+        return false;
+    }
 }
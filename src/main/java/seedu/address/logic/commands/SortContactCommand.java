@@ -69,4 +69,9 @@ public class SortContactCommand extends Command {
                 .add("comparatorType", comparatorType)
                 .toString();
     }
+
+    @Override
+    public boolean modifiesAddressBook() {
+        return false;
+    }
 }
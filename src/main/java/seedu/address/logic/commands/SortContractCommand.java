@@ -77,4 +77,9 @@ public class SortContractCommand extends Command {
                 .add("comparatorType", comparatorType)
                 .toString();
     }
+
+    @Override
+    public boolean modifiesAddressBook() {
+        return false;
+    }
 }
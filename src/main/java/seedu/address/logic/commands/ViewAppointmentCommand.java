@@ -2,11 +2,18 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.FLAG_LIST_ALL;
+import static seedu.address.logic.parser.CliSyntax.FLAG_UPCOMING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_APPOINTMENTS;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentIdContainsKeywordsPredicate;
 import seedu.address.ui.ListPanelType;
 
@@ -21,33 +28,65 @@ public class ViewAppointmentCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Views appointments.\n"
             + "Parameters: "
             + FLAG_LIST_ALL + " (View all appointments) or "
-            + PREFIX_AID + "APPOINTMENT_ID1 [APPOINTMENT_ID2]... (View specific appointments by ID)\n"
+            + PREFIX_AID + "APPOINTMENT_ID1 [APPOINTMENT_ID2]... (View specific appointments by ID) or "
+            + PREFIX_DATE + "FROM_DATE TO_DATE (View appointments between two dates, inclusive) or "
+            + FLAG_UPCOMING + " COUNT (View the next COUNT appointments from today)\n"
             + "Examples: "
             + COMMAND_WORD + " " + FLAG_LIST_ALL
             + " or "
-            + COMMAND_WORD + " " + PREFIX_AID + "ABCDEF";
+            + COMMAND_WORD + " " + PREFIX_AID + "ABCDEF"
+            + " or "
+            + COMMAND_WORD + " " + PREFIX_DATE + "2025-01-01 2025-01-31"
+            + " or "
+            + COMMAND_WORD + " " + FLAG_UPCOMING + " 5";
 
     public static final String MESSAGE_SUCCESS_ALL = "Viewing all appointments";
     public static final String MESSAGE_SUCCESS_SPECIFIC = "Viewing appointments with ID : %1$s";
     public static final String MESSAGE_NO_ID_MATCH = "Failed to find any appointments";
+    public static final String MESSAGE_SUCCESS_RANGE = "Viewing %1$d appointment(s) from %2$s to %3$s";
+    public static final String MESSAGE_SUCCESS_UPCOMING = "Viewing the next %1$d appointment(s) from today";
 
     private final boolean viewAll;
     private final AppointmentIdContainsKeywordsPredicate predicate;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Integer upcomingCount;
 
     /**
      * Constructor method to view all appointments
      */
     public ViewAppointmentCommand() {
-        this.viewAll = true;
-        this.predicate = null;
+        this(true, null, null, null, null);
     }
 
     /**
      * Constructor method to view appointments matching predicate
      */
     public ViewAppointmentCommand(AppointmentIdContainsKeywordsPredicate predicate) {
-        this.viewAll = false;
+        this(false, predicate, null, null, null);
+    }
+
+    /**
+     * Constructor method to view appointments dated between {@code from} and {@code to}, both inclusive
+     */
+    public ViewAppointmentCommand(LocalDate from, LocalDate to) {
+        this(false, null, requireNonNull(from), requireNonNull(to), null);
+    }
+
+    /**
+     * Constructor method to view the next {@code upcomingCount} appointments from today
+     */
+    public ViewAppointmentCommand(int upcomingCount) {
+        this(false, null, null, null, upcomingCount);
+    }
+
+    private ViewAppointmentCommand(boolean viewAll, AppointmentIdContainsKeywordsPredicate predicate,
+                                   LocalDate from, LocalDate to, Integer upcomingCount) {
+        this.viewAll = viewAll;
         this.predicate = predicate;
+        this.from = from;
+        this.to = to;
+        this.upcomingCount = upcomingCount;
     }
 
 
@@ -58,6 +97,18 @@ public class ViewAppointmentCommand extends Command {
             model.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
             return new CommandResult(MESSAGE_SUCCESS_ALL, ListPanelType.APPOINTMENT);
         }
+        if (from != null) {
+            List<Appointment> inRange = model.getAppointmentsBetween(from, to);
+            model.showAppointments(inRange);
+            return new CommandResult(String.format(MESSAGE_SUCCESS_RANGE, inRange.size(), from, to),
+                    ListPanelType.APPOINTMENT);
+        }
+        if (upcomingCount != null) {
+            List<Appointment> upcoming = model.getUpcomingAppointments(LocalDate.now(), upcomingCount);
+            model.showAppointments(upcoming);
+            return new CommandResult(String.format(MESSAGE_SUCCESS_UPCOMING, upcoming.size()),
+                    ListPanelType.APPOINTMENT);
+        }
         model.updateFilteredAppointmentList((predicate));
         if (model.getFilteredAppointmentList().isEmpty()) {
             return new CommandResult(String.format(MESSAGE_NO_ID_MATCH), ListPanelType.APPOINTMENT);
@@ -78,6 +129,12 @@ public class ViewAppointmentCommand extends Command {
 
         ViewAppointmentCommand otherViewAppointmentCommand = (ViewAppointmentCommand) other;
 
+        if (!Objects.equals(from, otherViewAppointmentCommand.from)
+                || !Objects.equals(to, otherViewAppointmentCommand.to)
+                || !Objects.equals(upcomingCount, otherViewAppointmentCommand.upcomingCount)) {
+            return false;
+        }
+
         if (this.predicate == null && otherViewAppointmentCommand.predicate == null) {
             return true;
         }
@@ -93,6 +150,14 @@ public class ViewAppointmentCommand extends Command {
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("from", from)
+                .add("to", to)
+                .add("upcomingCount", upcomingCount)
                 .toString();
     }
+
+    @Override
+    public boolean modifiesAddressBook() {
+        return false;
+    }
 }
@@ -94,4 +94,9 @@ public class ViewContactCommand extends Command {
                 .add("predicate", predicate)
                 .toString();
     }
+
+    @Override
+    public boolean modifiesAddressBook() {
+        return false;
+    }
 }
@@ -4,10 +4,18 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.FLAG_LIST_ALL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPIRY;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONTRACTS;
 
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
+import seedu.address.model.contract.Contract;
 import seedu.address.model.contract.ContractIdContainsKeywordsPredicate;
 import seedu.address.ui.ListPanelType;
 
@@ -22,18 +30,23 @@ public class ViewContractCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Views contracts.\n"
             + "Parameters: "
             + FLAG_LIST_ALL + " (View all contracts) or "
-            + PREFIX_CID + "CONTRACT_ID1 [CONTRACT_ID2]... (View specific contracts by ID)\n"
+            + PREFIX_CID + "CONTRACT_ID1 [CONTRACT_ID2]... (View specific contracts by ID) or "
+            + PREFIX_EXPIRY + "DAYS (View contracts expiring within the next DAYS days)\n"
             + "Examples: "
             + COMMAND_WORD + " " + FLAG_LIST_ALL
             + " or "
-            + COMMAND_WORD + " " + PREFIX_CID + "ABCDEF";
+            + COMMAND_WORD + " " + PREFIX_CID + "ABCDEF"
+            + " or "
+            + COMMAND_WORD + " " + PREFIX_EXPIRY + "30";
 
     public static final String MESSAGE_SUCCESS_ALL = "Viewing all contracts";
     public static final String MESSAGE_SUCCESS_SPECIFIC = "Viewing contract with ID : %1$s";
     public static final String MESSAGE_NO_ID_MATCH = "Failed to find any contracts";
+    public static final String MESSAGE_SUCCESS_EXPIRING = "Viewing %1$d contract(s) expiring within %2$d day(s)";
 
     private final boolean viewAll;
     private final ContractIdContainsKeywordsPredicate predicate;
+    private final Integer expiringWithinDays;
 
     /**
      * Constructor method to view all contracts
@@ -41,6 +54,7 @@ public class ViewContractCommand extends Command {
     public ViewContractCommand() {
         this.viewAll = true;
         this.predicate = null;
+        this.expiringWithinDays = null;
     }
 
     /**
@@ -49,6 +63,16 @@ public class ViewContractCommand extends Command {
     public ViewContractCommand(ContractIdContainsKeywordsPredicate predicate) {
         this.viewAll = false;
         this.predicate = predicate;
+        this.expiringWithinDays = null;
+    }
+
+    /**
+     * Constructor method to view contracts expiring between today and {@code expiringWithinDays} days from today
+     */
+    public ViewContractCommand(int expiringWithinDays) {
+        this.viewAll = false;
+        this.predicate = null;
+        this.expiringWithinDays = expiringWithinDays;
     }
 
 
@@ -58,11 +82,30 @@ public class ViewContractCommand extends Command {
         if (viewAll) {
             model.updateFilteredContractList(PREDICATE_SHOW_ALL_CONTRACTS);
             return new CommandResult(MESSAGE_SUCCESS_ALL, ListPanelType.CONTRACT);
+        } else if (expiringWithinDays != null) {
+            return executeViewExpiring(model);
         } else {
             return executeViewSpecific(model);
         }
     }
 
+    /**
+     * Executes the command to view contracts expiring within {@code expiringWithinDays} days from today.
+     * The matching contracts are read from the model's expiry date index rather than by testing every contract.
+     *
+     * @param model The model which the command should operate on.
+     * @return A CommandResult indicating the outcome of the execution.
+     */
+    private CommandResult executeViewExpiring(Model model) {
+        LocalDate today = LocalDate.now();
+        List<Contract> expiring = model.getContractsExpiringBetween(today, today.plusDays(expiringWithinDays));
+        Set<Contract> expiringSet = new HashSet<>(expiring);
+        model.updateFilteredContractList(expiringSet::contains);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS_EXPIRING, expiring.size(), expiringWithinDays),
+                ListPanelType.CONTRACT);
+    }
+
     /**
      * Executes the command to view specific contracts by filtering the list.
      *
@@ -92,6 +135,10 @@ public class ViewContractCommand extends Command {
 
         ViewContractCommand otherViewContractCommand = (ViewContractCommand) other;
 
+        if (!Objects.equals(expiringWithinDays, otherViewContractCommand.expiringWithinDays)) {
+            return false;
+        }
+
         if (this.predicate == null && otherViewContractCommand.predicate == null) {
             return true;
         }
@@ -107,7 +154,12 @@ public class ViewContractCommand extends Command {
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("expiringWithinDays", expiringWithinDays)
                 .toString();
     }
-}
 
+    @Override
+    public boolean modifiesAddressBook() {
+        return false;
+    }
+}
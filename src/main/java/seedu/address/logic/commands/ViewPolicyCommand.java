@@ -99,4 +99,9 @@ public class ViewPolicyCommand extends Command {
                 .add("predicate", predicate)
                 .toString();
     }
+
+    @Override
+    public boolean modifiesAddressBook() {
+        return false;
+    }
 }
@@ -24,6 +24,7 @@ public class CliSyntax {
     /* Flag definitions */
     public static final String INVALID_FLAG = "-";
     public static final String FLAG_LIST_ALL = "-a";
+    public static final String FLAG_UPCOMING = "-u";
     public static final String FLAG_ALPHABETICAL_ORDER = "-a";
     public static final String FLAG_INSERTION_ORDER = "-i";
     public static final String FLAG_DATE_ORDER_ASCENDING = "-da";
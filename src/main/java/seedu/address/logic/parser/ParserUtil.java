@@ -36,6 +36,7 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_POSITIVE_INTEGER = "Value should be a non-zero unsigned integer.";
 
     private static final Pattern DATE_FORMAT_PATTERN = Pattern.compile("^\\d{4}-\\d{2}-\\d{2}$");
 
@@ -52,6 +53,19 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code value} into a positive {@code int}. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified value is not a non-zero unsigned integer.
+     */
+    public static int parsePositiveInteger(String value) throws ParseException {
+        requireNonNull(value);
+        String trimmedValue = value.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedValue)) {
+            throw new ParseException(MESSAGE_INVALID_POSITIVE_INTEGER);
+        }
+        return Integer.parseInt(trimmedValue);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -2,8 +2,11 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.FLAG_LIST_ALL;
+import static seedu.address.logic.parser.CliSyntax.FLAG_UPCOMING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.stream.Stream;
 
@@ -16,13 +19,15 @@ import seedu.address.model.appointment.AppointmentIdContainsKeywordsPredicate;
  */
 public class ViewAppointmentCommandParser implements Parser<ViewAppointmentCommand> {
 
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The start date must not be after the end date.";
+
     /**
      * Parses the given {@code String} of arguments in the context of the ViewAppointmentCommand
      * and returns a ViewAppointmentCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public ViewAppointmentCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_AID);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_AID, PREFIX_DATE);
         String preamble = argMultimap.getPreamble().trim();
 
         // Check for view all command
@@ -30,8 +35,22 @@ public class ViewAppointmentCommandParser implements Parser<ViewAppointmentComma
             return new ViewAppointmentCommand();
         }
 
+        // Check for view upcoming appointments command
+        String[] preambleWords = preamble.split("\\s+", 2);
+        if (preambleWords[0].equals(FLAG_UPCOMING) && !arePrefixesPresent(argMultimap, PREFIX_DATE)) {
+            String count = preambleWords.length > 1 ? preambleWords[1] : "";
+            return new ViewAppointmentCommand(ParserUtil.parsePositiveInteger(count));
+        }
+
+        // Check for view appointments in date range command
+        if (arePrefixesPresent(argMultimap, PREFIX_DATE) && !arePrefixesPresent(argMultimap, PREFIX_AID)
+                && preamble.isEmpty()) {
+            return parseDateRange(argMultimap);
+        }
+
         // Check for view specific appointment id command
-        if (arePrefixesPresent(argMultimap, PREFIX_AID) && preamble.isEmpty()) {
+        if (arePrefixesPresent(argMultimap, PREFIX_AID) && !arePrefixesPresent(argMultimap, PREFIX_DATE)
+                && preamble.isEmpty()) {
             String trimmedArgs = argMultimap.getValue(PREFIX_AID).get().trim();
             if (trimmedArgs.isEmpty()) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -45,6 +64,22 @@ public class ViewAppointmentCommandParser implements Parser<ViewAppointmentComma
         throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewAppointmentCommand.MESSAGE_USAGE));
     }
 
+    private ViewAppointmentCommand parseDateRange(ArgumentMultimap argMultimap) throws ParseException {
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE);
+        String[] dates = argMultimap.getValue(PREFIX_DATE).get().trim().split("\\s+");
+        if (dates.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ViewAppointmentCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate from = ParserUtil.parseDate(dates[0]);
+        LocalDate to = ParserUtil.parseDate(dates[1]);
+        if (from.isAfter(to)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        return new ViewAppointmentCommand(from, to);
+    }
+
     public static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
         return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
     }
@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.FLAG_LIST_ALL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPIRY;
 
 import java.util.Arrays;
 import java.util.stream.Stream;
@@ -22,7 +23,7 @@ public class ViewContractCommandParser implements Parser<ViewContractCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public ViewContractCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CID);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CID, PREFIX_EXPIRY);
         String preamble = argMultimap.getPreamble().trim();
 
         // Check for view all command
@@ -31,10 +32,18 @@ public class ViewContractCommandParser implements Parser<ViewContractCommand> {
         }
 
         // Check for view specific contract id command
-        if (arePrefixesPresent(argMultimap, PREFIX_CID) && preamble.isEmpty()) {
+        if (arePrefixesPresent(argMultimap, PREFIX_CID) && !arePrefixesPresent(argMultimap, PREFIX_EXPIRY)
+                && preamble.isEmpty()) {
             return parseViewSpecificContract(argMultimap);
         }
 
+        // Check for view contracts expiring within a number of days command
+        if (arePrefixesPresent(argMultimap, PREFIX_EXPIRY) && !arePrefixesPresent(argMultimap, PREFIX_CID)
+                && preamble.isEmpty()) {
+            argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_EXPIRY);
+            return new ViewContractCommand(ParserUtil.parsePositiveInteger(argMultimap.getValue(PREFIX_EXPIRY).get()));
+        }
+
         throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewContractCommand.MESSAGE_USAGE));
     }
 
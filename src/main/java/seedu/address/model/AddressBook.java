@@ -1,25 +1,36 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentId;
 import seedu.address.model.appointment.UniqueAppointmentList;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.Name;
 import seedu.address.model.contact.Nric;
 import seedu.address.model.contact.UniqueContactList;
 import seedu.address.model.contact.exceptions.ContactNotFoundException;
+import seedu.address.model.contact.exceptions.DuplicateContactException;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractId;
 import seedu.address.model.contract.UniqueContractList;
+import seedu.address.model.contract.exceptions.DuplicateContractException;
 import seedu.address.model.policy.Policy;
 import seedu.address.model.policy.PolicyId;
 import seedu.address.model.policy.UniquePolicyList;
+import seedu.address.model.policy.exceptions.DuplicatePolicyException;
 import seedu.address.model.policy.exceptions.PolicyNotFoundException;
 
 /**
@@ -32,6 +43,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueContractList contracts;
     private final UniquePolicyList policies;
     private final UniqueAppointmentList appointments;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -66,6 +78,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setContacts(List<Contact> contacts) {
         this.contacts.setContacts(contacts);
+        version++;
     }
 
     /**
@@ -74,6 +87,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPolicies(List<Policy> policies) {
         this.policies.setPolicies(policies);
+        version++;
     }
 
     /**
@@ -82,6 +96,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setAppointments(List<Appointment> appointments) {
         this.appointments.setAppointments(appointments);
+        version++;
     }
 
     /**
@@ -96,6 +111,63 @@ public class AddressBook implements ReadOnlyAddressBook {
         setAppointments(newData.getAppointmentList());
     }
 
+    /**
+     * Replaces the contents of this address book with the given fully converted lists.
+     * Each list is checked for duplicates in a single pass and installed with one bulk replacement, so loading
+     * a saved address book does not pay for an identity check against every previously added entry.
+     *
+     * @throws DuplicateContactException if {@code contacts} contains contacts with the same NRIC.
+     * @throws DuplicatePolicyException if {@code policies} contains policies with the same id or the same fields.
+     * @throws DuplicateContractException if {@code contracts} contains duplicate contracts.
+     * @throws DuplicateAppointmentException if {@code appointments} contains duplicate appointments.
+     */
+    public void loadData(List<Contact> contacts, List<Policy> policies, List<Contract> contracts,
+                         List<Appointment> appointments) {
+        requireAllNonNull(contacts, policies, contracts, appointments);
+        if (!Policy.policiesAreUnique(policies)) {
+            throw new DuplicatePolicyException();
+        }
+
+        setContacts(contacts);
+        setPolicies(policies);
+        setContracts(contracts);
+        setAppointments(appointments);
+    }
+
+    /**
+     * Appends contracts and appointments that were loaded after the rest of this address book, linking each
+     * contract to the contact with its NRIC and the policy with its policy id, if they exist.
+     *
+     * @throws DuplicateContractException if a contract in {@code loadedContracts} is already in the address book or
+     *     appears twice.
+     * @throws DuplicateAppointmentException if an appointment in {@code loadedAppointments} is already in the address
+     *     book or appears twice.
+     */
+    public void appendLoadedData(List<Contract> loadedContracts, List<Appointment> loadedAppointments) {
+        requireAllNonNull(loadedContracts, loadedAppointments);
+        contracts.addAll(loadedContracts);
+        appointments.addAll(loadedAppointments);
+
+        Map<Nric, Contact> linkedContacts = new LinkedHashMap<>();
+        Map<PolicyId, Policy> linkedPolicies = new LinkedHashMap<>();
+        for (Contract contract : loadedContracts) {
+            Contact contact = contacts.getContact(contract.getNric());
+            if (contact != null) {
+                contact.addContract(contract);
+                linkedContacts.put(contact.getNric(), contact);
+            }
+            Policy policy = policies.getPolicy(contract.getPId());
+            if (policy != null) {
+                policy.addContract(contract);
+                linkedPolicies.put(policy.getId(), policy);
+            }
+        }
+        // Replacing each linked entry with itself makes the lists report the change to their listeners.
+        linkedContacts.values().forEach(contact -> contacts.setContact(contact, contact));
+        linkedPolicies.values().forEach(policy -> policies.setPolicy(policy, policy));
+        version++;
+    }
+
     //// contact-level operations
 
     /**
@@ -113,15 +185,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return contacts.contains(nric);
     }
 
+    /**
+     * Returns the contact with the given {@code nric}, or null if no such contact exists in the address book.
+     */
+    public Contact getContact(Nric nric) {
+        requireNonNull(nric);
+        return contacts.getContact(nric);
+    }
+
     //@@author Joshua-Seah
+    /**
+     * Returns the name of the contact with the given {@code nric}, or null if no such contact exists.
+     */
     public Name getName(Nric nric) {
         requireNonNull(nric);
-        for (Contact contact : contacts) {
-            if (contact.getNric().equals(nric)) {
-                return contact.getName();
-            }
-        }
-        return null;
+        Contact contact = contacts.getContact(nric);
+        return contact == null ? null : contact.getName();
     }
     //@@author
 
@@ -131,6 +210,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addContact(Contact p) {
         contacts.add(p);
+        version++;
     }
 
     /**
@@ -143,6 +223,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedContact);
 
         contacts.setContact(target, editedContact);
+        version++;
     }
 
     /**
@@ -151,6 +232,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeContact(Contact key) {
         contacts.remove(key);
+        version++;
     }
 
     //// policy-level operations
@@ -188,12 +270,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Policy getPolicy(PolicyId policyId) {
         requireNonNull(policyId);
-        for (Policy policy : policies) {
-            if (policy.getId().equals(policyId)) {
-                return policy;
-            }
-        }
-        return null;
+        return policies.getPolicy(policyId);
     }
 
     /**
@@ -202,6 +279,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPolicy(Policy p) {
         policies.add(p);
+        version++;
     }
 
     /**
@@ -210,6 +288,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPolicies(List<Policy> policyList) {
         policies.addAll(policyList);
+        version++;
     }
 
     /**
@@ -229,16 +308,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public List<PolicyId> generateUniquePolicyIds(int length) {
         assert length >= 0;
-        ArrayList<PolicyId> policyIds = new ArrayList<>(length);
+        Set<PolicyId> policyIds = new LinkedHashSet<>(length);
 
         while (policyIds.size() < length) {
             PolicyId policyId = PolicyId.generate();
-            if (!policies.containsId(policyId) && !policyIds.contains(policyId)) {
+            if (!policies.containsId(policyId)) {
                 policyIds.add(policyId);
             }
         }
 
-        return policyIds;
+        return new ArrayList<>(policyIds);
     }
 
     /**
@@ -250,6 +329,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPolicy);
 
         policies.setPolicy(target, editedPolicy);
+        version++;
     }
 
     /**
@@ -258,6 +338,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePolicy(Policy key) {
         policies.remove(key);
+        version++;
     }
 
     /**
@@ -284,6 +365,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addAppointment(Appointment a) {
         appointments.add(a);
+        version++;
     }
 
 
@@ -297,6 +379,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedAppointment);
 
         appointments.setAppointment(target, editedAppointment);
+        version++;
     }
 
     /**
@@ -306,12 +389,29 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Appointment getAppointment(AppointmentId appointmentId) {
         requireNonNull(appointmentId);
-        for (Appointment appointment : appointments) {
-            if (appointment.getAId().equals(appointmentId)) {
-                return appointment;
-            }
-        }
-        return null;
+        return appointments.getAppointment(appointmentId);
+    }
+
+    /**
+     * Returns the appointments with the contact identified by {@code nric}.
+     */
+    public List<Appointment> getAppointments(Nric nric) {
+        requireNonNull(nric);
+        return appointments.getAppointments(nric);
+    }
+
+    /**
+     * Returns the appointments dated between {@code from} and {@code to}, both inclusive, ordered by date.
+     */
+    public List<Appointment> getAppointmentsBetween(LocalDate from, LocalDate to) {
+        return appointments.getAppointmentsBetween(from, to);
+    }
+
+    /**
+     * Returns at most {@code count} appointments dated on or after {@code from}, ordered by date.
+     */
+    public List<Appointment> getUpcomingAppointments(LocalDate from, int count) {
+        return appointments.getUpcomingAppointments(from, count);
     }
 
     /**
@@ -320,6 +420,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeAppointment(Appointment key) {
         appointments.remove(key);
+        version++;
     }
 
     /**
@@ -337,6 +438,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addContract(Contract contract) {
         requireNonNull(contract);
         contracts.add(contract);
+        version++;
     }
 
     //@@author Joshua-Seah
@@ -346,14 +448,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addContractToContact(Contract contract) throws ContactNotFoundException {
         requireNonNull(contract);
-        for (Contact contact : contacts) {
-            if (contact.getNric().equals(contract.getNric())) {
-                contact.addContract(contract);
-                setContact(contact, contact);
-                return;
-            }
+        Contact contact = contacts.getContact(contract.getNric());
+        if (contact == null) {
+            throw new ContactNotFoundException();
         }
-        throw new ContactNotFoundException();
+        contact.addContract(contract);
+        setContact(contact, contact);
     }
     //@@author
 
@@ -363,14 +463,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addContractToPolicy(Contract contract) throws PolicyNotFoundException {
         requireNonNull(contract);
-        for (Policy policy : policies) {
-            if (policy.getId().equals(contract.getPId())) {
-                policy.addContract(contract);
-                setPolicy(policy, policy);
-                return;
-            }
+        Policy policy = policies.getPolicy(contract.getPId());
+        if (policy == null) {
+            throw new PolicyNotFoundException();
         }
-        throw new PolicyNotFoundException();
+        policy.addContract(contract);
+        setPolicy(policy, policy);
     }
 
     /**
@@ -380,6 +478,38 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void removeContract(Contract contract) {
         requireNonNull(contract);
         contracts.remove(contract);
+        version++;
+    }
+
+    /**
+     * Returns the contract with the given id, or null if no such contract exists in the address book.
+     */
+    public Contract getContract(ContractId contractId) {
+        requireNonNull(contractId);
+        return contracts.getContract(contractId);
+    }
+
+    /**
+     * Returns the contracts held by the contact identified by {@code nric}.
+     */
+    public List<Contract> getContracts(Nric nric) {
+        requireNonNull(nric);
+        return contracts.getContracts(nric);
+    }
+
+    /**
+     * Returns the contracts under the policy identified by {@code policyId}.
+     */
+    public List<Contract> getContracts(PolicyId policyId) {
+        requireNonNull(policyId);
+        return contracts.getContracts(policyId);
+    }
+
+    /**
+     * Returns the contracts expiring between {@code from} and {@code to}, both inclusive, ordered by expiry date.
+     */
+    public List<Contract> getContractsExpiringBetween(LocalDate from, LocalDate to) {
+        return contracts.getContractsExpiringBetween(from, to);
     }
 
     //@@author Joshua-Seah
@@ -388,13 +518,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeContractFromContact(Contract contract) throws ContactNotFoundException {
         requireNonNull(contract);
-        for (Contact contact : contacts) {
-            if (contact.getNric().equals(contract.getNric())) {
-                contact.removeContract(contract);
-                return;
-            }
+        Contact contact = contacts.getContact(contract.getNric());
+        if (contact == null) {
+            throw new ContactNotFoundException();
         }
-        throw new ContactNotFoundException();
+        contact.removeContract(contract);
+        version++;
     }
     //@@author
 
@@ -403,14 +532,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeContractFromPolicy(Contract contract) throws PolicyNotFoundException {
         requireNonNull(contract);
-        for (Policy policy : policies) {
-            if (policy.getId().equals(contract.getPId())) {
-                policy.removeContract(contract);
-                //update policyview method
-                return;
-            }
+        Policy policy = policies.getPolicy(contract.getPId());
+        if (policy == null) {
+            throw new PolicyNotFoundException();
         }
-        throw new PolicyNotFoundException();
+        policy.removeContract(contract);
+        version++;
     }
 
     /**
@@ -419,6 +546,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setContracts(List<Contract> contracts) {
         this.contracts.setContracts(contracts);
+        version++;
     }
 
     /**
@@ -430,6 +558,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setContract(Contract target, Contract editedContract) {
         requireNonNull(editedContract);
         contracts.setContract(target, editedContract);
+        version++;
     }
 
     //@@author Joshua-Seah
@@ -439,12 +568,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public boolean contactHasContract(Contract contract, Contact contact) {
         requireNonNull(contract);
         requireNonNull(contact);
-        for (Contact p : contacts) {
-            if (p.equals(contact)) {
-                return p.getContracts().contains(contract);
-            }
-        }
-        return false;
+        Contact p = contacts.getContact(contact.getNric());
+        return p != null && p.equals(contact) && p.getContracts().contains(contract);
     }
     //@@author
 
@@ -454,16 +579,20 @@ public class AddressBook implements ReadOnlyAddressBook {
     public boolean policyHasContract(Contract contract, Policy policy) {
         requireNonNull(contract);
         requireNonNull(policy);
-        for (Policy p : policies) {
-            if (p.equals(policy)) {
-                return p.getContracts().contains(contract);
-            }
-        }
-        return false;
+        Policy p = policies.getPolicy(policy.getId());
+        return p != null && p.equals(policy) && p.getContracts().contains(contract);
     }
 
     //// util methods
 
+    /**
+     * Returns a number that increases every time the data in this address book is modified.
+     * Two calls that return the same value mean that no modification happened in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
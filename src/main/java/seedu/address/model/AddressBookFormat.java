@@ -0,0 +1,15 @@
+package seedu.address.model;
+
+/**
+ * The formats in which the address book data file can be stored.
+ */
+public enum AddressBookFormat {
+    /** A JSON file, which can be read and edited by hand and by other programs. */
+    JSON,
+    /** A binary snapshot, which is smaller and faster to load than JSON. */
+    BINARY,
+    /** A directory of JSON files, one per list, so that saving a change only rewrites the lists it touched. */
+    SHARDED,
+    /** An embedded SQLite database, so that saving a change only writes the rows it touched. */
+    SQLITE
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
@@ -13,6 +14,7 @@ import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.Name;
 import seedu.address.model.contact.Nric;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractId;
 import seedu.address.model.policy.Policy;
 import seedu.address.model.policy.PolicyId;
 
@@ -64,6 +66,23 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the address book data is modified.
+     * Callers can compare two values to tell whether anything changed in between.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns true if the address book cannot be changed, because the data file is open read-only.
+     */
+    boolean isAddressBookReadOnly();
+
+    /**
+     * Appends contracts and appointments that were loaded after the rest of the address book, linking each
+     * contract to its contact and policy.
+     */
+    void appendLoadedData(List<Contract> contracts, List<Appointment> appointments);
+
     /**
      * Returns true if a contact with the same identity as {@code contact} exists in the address book.
      */
@@ -79,6 +98,11 @@ public interface Model {
      */
     Name getName(Nric nric);
 
+    /**
+     * Returns the contact with the given NRIC, or null if no such contact exists in the address book.
+     */
+    Contact getContact(Nric nric);
+
     /**
      * Deletes the given contact.
      * The contact must exist in the address book.
@@ -214,6 +238,26 @@ public interface Model {
      */
     void removeContract(Contract contract);
 
+    /**
+     * Returns the contract with the given id, or null if no such contract exists in the address book.
+     */
+    Contract getContract(ContractId contractId);
+
+    /**
+     * Returns an unmodifiable list of the contracts held by the contact identified by {@code nric}.
+     */
+    List<Contract> getContracts(Nric nric);
+
+    /**
+     * Returns an unmodifiable list of the contracts under the policy identified by {@code policyId}.
+     */
+    List<Contract> getContracts(PolicyId policyId);
+
+    /**
+     * Returns the contracts expiring between {@code from} and {@code to}, both inclusive, ordered by expiry date.
+     */
+    List<Contract> getContractsExpiringBetween(LocalDate from, LocalDate to);
+
     /**
      * Updates the comparator of the sorted list to sort by the given {@code comparator}.
      * @param comparator {@code Comparator<Contract>} or {@code null} for no sorting.
@@ -263,10 +307,25 @@ public interface Model {
     boolean hasAppointment(AppointmentId appointmentId);
 
     /**
-     * Returns the appointment if it exists in the address book.
+     * Returns the appointment with the given id, or null if no such appointment exists in the address book.
      */
     Appointment getAppointment(AppointmentId appointmentId);
 
+    /**
+     * Returns an unmodifiable list of the appointments with the contact identified by {@code nric}.
+     */
+    List<Appointment> getAppointments(Nric nric);
+
+    /**
+     * Returns the appointments dated between {@code from} and {@code to}, both inclusive, ordered by date.
+     */
+    List<Appointment> getAppointmentsBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Returns at most {@code count} appointments dated on or after {@code from}, ordered by date.
+     */
+    List<Appointment> getUpcomingAppointments(LocalDate from, int count);
+
     /**
      * Removes the given appointment.
      * The appointment must exist in the address book.
@@ -304,6 +363,13 @@ public interface Model {
      */
     void updateFilteredAppointmentList(Predicate<Appointment> predicate);
 
+    /**
+     * Updates the filter of the filtered appointment list to show only {@code appointments}. Unless a sort order
+     * has been chosen with {@link #sortAppointments}, the sorted list shows them in the order of
+     * {@code appointments} until the filter is next updated.
+     */
+    void showAppointments(List<Appointment> appointments);
+
     /**
      * Updates the comparator of the sorted list to sort by the given {@code comparator}.
      * @param comparator {@code Comparator<Appointment>} or {@code null} for no sorting.
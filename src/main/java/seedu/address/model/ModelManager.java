@@ -4,14 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.appointment.Appointment;
@@ -20,42 +22,66 @@ import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.Name;
 import seedu.address.model.contact.Nric;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractId;
 import seedu.address.model.policy.Policy;
 import seedu.address.model.policy.PolicyId;
+import seedu.address.model.util.LazySortedList;
 
 /**
  * Represents the in-memory model of the address book data.
+ * A read-only model shows the address book it is given without copying it, and only copies it into an
+ * {@code AddressBook} when a lookup first needs the indexes of one; see {@link #readOnly}. The sorted lists only
+ * read every entry once they are first sorted; see {@link LazySortedList}.
  */
 public class ModelManager implements Model {
+    public static final String MESSAGE_READ_ONLY = "The address book is open read-only, so it cannot be changed.";
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final ReadOnlyAddressBook readOnlyAddressBook;
+    private AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final SortedList<Contact> sortedContacts;
-    private final SortedList<Contract> sortedContracts;
-    private final SortedList<Appointment> sortedAppointments;
+    private final LazySortedList<Contact> sortedContacts;
+    private final LazySortedList<Contract> sortedContracts;
+    private final LazySortedList<Appointment> sortedAppointments;
     private final FilteredList<Policy> filteredPolicies;
     private final FilteredList<Contract> filteredContracts;
     private final FilteredList<Contact> filteredContacts;
     private final FilteredList<Appointment> filteredAppointments;
+    private Comparator<Appointment> appointmentComparator;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, false);
+    }
+
+    private ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, boolean isReadOnly) {
         requireAllNonNull(addressBook, userPrefs);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.readOnlyAddressBook = isReadOnly ? addressBook : null;
+        this.addressBook = isReadOnly ? null : new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredContacts = new FilteredList<>(this.addressBook.getContactList());
-        filteredAppointments = new FilteredList<>(this.addressBook.getAppointmentList());
-        filteredContracts = new FilteredList<>(this.addressBook.getContractList());
-        sortedContacts = new SortedList<>(filteredContacts);
-        sortedContracts = new SortedList<>(filteredContracts);
-        sortedAppointments = new SortedList<>(filteredAppointments);
-        filteredPolicies = new FilteredList<>(this.addressBook.getPolicyList());
+        ReadOnlyAddressBook shown = getAddressBook();
+        filteredContacts = new FilteredList<>(shown.getContactList());
+        filteredAppointments = new FilteredList<>(shown.getAppointmentList());
+        filteredContracts = new FilteredList<>(shown.getContractList());
+        sortedContacts = new LazySortedList<>(filteredContacts);
+        sortedContracts = new LazySortedList<>(filteredContracts);
+        sortedAppointments = new LazySortedList<>(filteredAppointments);
+        filteredPolicies = new FilteredList<>(shown.getPolicyList());
+    }
+
+    /**
+     * Returns a read-only {@code ModelManager} that shows {@code addressBook} directly, such as a lazily decoded view
+     * of a data file. Every method that would change the address book throws an
+     * {@code UnsupportedOperationException}.
+     */
+    public static ModelManager readOnly(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        return new ModelManager(addressBook, userPrefs, true);
     }
 
     public ModelManager() {
@@ -101,102 +127,146 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        getWritableAddressBook().resetData(addressBook);
     }
 
     @Override
     public ReadOnlyAddressBook getAddressBook() {
+        return readOnlyAddressBook != null ? readOnlyAddressBook : addressBook;
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return readOnlyAddressBook != null ? 0 : addressBook.getVersion();
+    }
+
+    @Override
+    public boolean isAddressBookReadOnly() {
+        return readOnlyAddressBook != null;
+    }
+
+    /**
+     * Returns the address book to answer lookups with, copying the read-only address book into one on first use.
+     */
+    private AddressBook getIndexedAddressBook() {
+        if (addressBook == null) {
+            logger.fine("Indexing the read-only address book");
+            addressBook = new AddressBook(readOnlyAddressBook);
+        }
         return addressBook;
     }
 
+    /**
+     * Returns the address book to change.
+     *
+     * @throws UnsupportedOperationException if this model is read-only.
+     */
+    private AddressBook getWritableAddressBook() {
+        if (readOnlyAddressBook != null) {
+            throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void appendLoadedData(List<Contract> contracts, List<Appointment> appointments) {
+        getWritableAddressBook().appendLoadedData(contracts, appointments);
+    }
+
     @Override
     public boolean hasContact(Contact contact) {
         requireNonNull(contact);
-        return addressBook.hasContact(contact);
+        return getIndexedAddressBook().hasContact(contact);
     }
 
     @Override
     public boolean hasContact(Nric nric) {
         requireNonNull(nric);
-        return addressBook.hasContact(nric);
+        return getIndexedAddressBook().hasContact(nric);
     }
 
     @Override
     public Name getName(Nric nric) {
         requireNonNull(nric);
-        return addressBook.getName(nric);
+        return getIndexedAddressBook().getName(nric);
+    }
+
+    @Override
+    public Contact getContact(Nric nric) {
+        requireNonNull(nric);
+        return getIndexedAddressBook().getContact(nric);
     }
 
     @Override
     public boolean hasSamePolicyId(Policy policy) {
         requireNonNull(policy);
-        return addressBook.hasSamePolicyId(policy);
+        return getIndexedAddressBook().hasSamePolicyId(policy);
     }
 
     @Override
     public boolean hasPolicy(PolicyId policyId) {
         requireNonNull(policyId);
-        return addressBook.hasPolicy(policyId);
+        return getIndexedAddressBook().hasPolicy(policyId);
     }
 
     @Override
     public boolean hasSamePolicyFields(Policy policy) {
         requireNonNull(policy);
-        return addressBook.hasSamePolicyFields(policy);
+        return getIndexedAddressBook().hasSamePolicyFields(policy);
     }
 
     @Override
     public boolean hasAppointment(Appointment appointment) {
         requireNonNull(appointment);
-        return addressBook.hasAppointment(appointment);
+        return getIndexedAddressBook().hasAppointment(appointment);
     }
 
     @Override
     public boolean hasAppointment(AppointmentId appointmentId) {
         requireNonNull(appointmentId);
-        return addressBook.hasAppointment(appointmentId);
+        return getIndexedAddressBook().hasAppointment(appointmentId);
     }
 
     @Override
     public void deleteContact(Contact target) {
-        addressBook.removeContact(target);
+        getWritableAddressBook().removeContact(target);
     }
 
     @Override
     public void removePolicy(Policy policy) {
-        addressBook.removePolicy(policy);
+        getWritableAddressBook().removePolicy(policy);
     }
 
     @Override
     public Policy getPolicy(PolicyId policyId) {
-        return addressBook.getPolicy(policyId);
+        return getIndexedAddressBook().getPolicy(policyId);
     }
 
     @Override
     public void removeAppointment(Appointment appointment) {
-        addressBook.removeAppointment(appointment);
+        getWritableAddressBook().removeAppointment(appointment);
     }
 
     @Override
     public void addContact(Contact contact) {
-        addressBook.addContact(contact);
+        getWritableAddressBook().addContact(contact);
         updateFilteredContactList(PREDICATE_SHOW_ALL_CONTACTS);
     }
 
     @Override
     public void addPolicy(Policy policy) {
-        addressBook.addPolicy(policy);
+        getWritableAddressBook().addPolicy(policy);
         updateFilteredPolicyList(PREDICATE_SHOW_ALL_POLICIES);
     }
 
     @Override
     public void addPolicies(List<Policy> policies) {
-        addressBook.addPolicies(policies);
+        getWritableAddressBook().addPolicies(policies);
     }
 
     @Override
     public void addAppointment(Appointment appointment) {
-        addressBook.addAppointment(appointment);
+        getWritableAddressBook().addAppointment(appointment);
         updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
     }
 
@@ -204,97 +274,139 @@ public class ModelManager implements Model {
     public void setContact(Contact target, Contact editedContact) {
         requireAllNonNull(target, editedContact);
 
-        addressBook.setContact(target, editedContact);
+        getWritableAddressBook().setContact(target, editedContact);
     }
 
     @Override
     public void setPolicy(Policy target, Policy editedPolicy) {
         requireAllNonNull(target, editedPolicy);
 
-        addressBook.setPolicy(target, editedPolicy);
+        getWritableAddressBook().setPolicy(target, editedPolicy);
     }
 
     @Override
     public void setContract(Contract target, Contract editedContract) {
         requireAllNonNull(target, editedContract);
 
-        addressBook.setContract(target, editedContract);
+        getWritableAddressBook().setContract(target, editedContract);
     }
 
     @Override
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireAllNonNull(target, editedAppointment);
 
-        addressBook.setAppointment(target, editedAppointment);
+        getWritableAddressBook().setAppointment(target, editedAppointment);
     }
 
     @Override
     public Appointment getAppointment(AppointmentId appointmentId) {
-        return addressBook.getAppointment(appointmentId);
+        return getIndexedAddressBook().getAppointment(appointmentId);
+    }
+
+    @Override
+    public List<Appointment> getAppointments(Nric nric) {
+        requireNonNull(nric);
+        return getIndexedAddressBook().getAppointments(nric);
+    }
+
+    @Override
+    public List<Appointment> getAppointmentsBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return getIndexedAddressBook().getAppointmentsBetween(from, to);
+    }
+
+    @Override
+    public List<Appointment> getUpcomingAppointments(LocalDate from, int count) {
+        requireNonNull(from);
+        return getIndexedAddressBook().getUpcomingAppointments(from, count);
     }
 
     @Override
     public boolean hasContract(Contract contract) {
         requireNonNull(contract);
-        return addressBook.hasContract(contract);
+        return getIndexedAddressBook().hasContract(contract);
     }
 
     @Override
     public void addContract(Contract contract) {
-        addressBook.addContract(contract);
+        getWritableAddressBook().addContract(contract);
     }
 
     //@@author Joshua-Seah
     @Override
     public void addContractToContact(Contract contract) {
-        addressBook.addContractToContact(contract);
+        getWritableAddressBook().addContractToContact(contract);
     }
 
     @Override
     public void addContractToPolicy(Contract contract) {
-        addressBook.addContractToPolicy(contract);
+        getWritableAddressBook().addContractToPolicy(contract);
     }
 
     @Override
     public boolean contactHasContract(Contract contract, Contact contact) {
         requireAllNonNull(contract, contact);
-        return addressBook.contactHasContract(contract, contact);
+        return getIndexedAddressBook().contactHasContract(contract, contact);
     }
     //@@author
 
     @Override
     public boolean policyHasContract(Contract contract, Policy policy) {
         requireAllNonNull(contract, policy);
-        return addressBook.policyHasContract(contract, policy);
+        return getIndexedAddressBook().policyHasContract(contract, policy);
+    }
+
+    @Override
+    public Contract getContract(ContractId contractId) {
+        requireNonNull(contractId);
+        return getIndexedAddressBook().getContract(contractId);
+    }
+
+    @Override
+    public List<Contract> getContracts(Nric nric) {
+        requireNonNull(nric);
+        return getIndexedAddressBook().getContracts(nric);
+    }
+
+    @Override
+    public List<Contract> getContracts(PolicyId policyId) {
+        requireNonNull(policyId);
+        return getIndexedAddressBook().getContracts(policyId);
+    }
+
+    @Override
+    public List<Contract> getContractsExpiringBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return getIndexedAddressBook().getContractsExpiringBetween(from, to);
     }
 
     @Override
     public void removeContract(Contract contract) {
-        addressBook.removeContract(contract);
+        getWritableAddressBook().removeContract(contract);
     }
 
     //@@author Joshua-Seah
     @Override
     public void removeContractFromContact(Contract contract) {
         requireAllNonNull(contract);
-        addressBook.removeContractFromContact(contract);
+        getWritableAddressBook().removeContractFromContact(contract);
     }
     //@@author
 
     @Override
     public void removeContractFromPolicy(Contract contract) {
         requireAllNonNull(contract);
-        addressBook.removeContractFromPolicy(contract);
+        getWritableAddressBook().removeContractFromPolicy(contract);
     }
 
     @Override
     public PolicyId generateUniquePolicyId() {
-        return addressBook.generateUniquePolicyId();
+        return getIndexedAddressBook().generateUniquePolicyId();
     }
 
     @Override
     public List<PolicyId> generateUniquePolicyIds(int length) {
-        return addressBook.generateUniquePolicyIds(length);
+        return getIndexedAddressBook().generateUniquePolicyIds(length);
     }
 
     //=========== Filtered List Accessors =============================================================
@@ -380,6 +492,21 @@ public class ModelManager implements Model {
     public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
         requireNonNull(predicate);
         filteredAppointments.setPredicate(predicate);
+        sortedAppointments.setComparator(appointmentComparator);
+    }
+
+    @Override
+    public void showAppointments(List<Appointment> appointments) {
+        requireNonNull(appointments);
+        Map<Appointment, Integer> positions = new HashMap<>();
+        for (int i = 0; i < appointments.size(); i++) {
+            positions.putIfAbsent(appointments.get(i), i);
+        }
+        filteredAppointments.setPredicate(positions::containsKey);
+        if (appointmentComparator == null) {
+            Comparator<Appointment> inGivenOrder = Comparator.comparing(positions::get);
+            sortedAppointments.setComparator(inGivenOrder);
+        }
     }
 
     @Override
@@ -402,17 +529,18 @@ public class ModelManager implements Model {
 
     @Override
     public void sortAppointments(Comparator<Appointment> comparator) {
+        appointmentComparator = comparator;
         sortedAppointments.setComparator(comparator);
     }
 
     @Override
     public ObservableList<Contract> getUniqueContractList() {
-        return addressBook.getContractList();
+        return getAddressBook().getContractList();
     }
 
     @Override
     public ObservableList<Contact> getUniqueContactList() {
-        return addressBook.getContactList();
+        return getAddressBook().getContactList();
     }
 
     @Override
@@ -427,7 +555,7 @@ public class ModelManager implements Model {
         }
 
         ModelManager otherModelManager = (ModelManager) other;
-        return addressBook.equals(otherModelManager.addressBook)
+        return getIndexedAddressBook().equals(otherModelManager.getIndexedAddressBook())
                 && userPrefs.equals(otherModelManager.userPrefs)
                 && filteredContacts.equals(otherModelManager.filteredContacts)
                 && filteredPolicies.equals(otherModelManager.filteredPolicies)
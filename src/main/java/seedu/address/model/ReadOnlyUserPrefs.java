@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.SaveDurability;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,18 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
+    boolean isAddressBookJournaled();
+
+    boolean isAddressBookCompact();
+
+    boolean isAddressBookReadOnly();
+
+    boolean isAddressBookLoadedProgressively();
+
+    SaveDurability getAddressBookSaveDurability();
+
+    int getAddressBookCompressionLevel();
+
 }
@@ -1,20 +1,33 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.zip.Deflater;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.SaveDurability;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_INVALID_COMPRESSION_LEVEL =
+            "Compression level should be -1 (the default level) or from 0 to 9.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "iCon.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private boolean isAddressBookJournaled = false;
+    private boolean isAddressBookCompact = false;
+    private boolean isAddressBookReadOnly = false;
+    private boolean isAddressBookLoadedProgressively = false;
+    private SaveDurability addressBookSaveDurability = SaveDurability.NONE;
+    private int addressBookCompressionLevel = Deflater.DEFAULT_COMPRESSION;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +49,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setAddressBookJournaled(newUserPrefs.isAddressBookJournaled());
+        setAddressBookCompact(newUserPrefs.isAddressBookCompact());
+        setAddressBookReadOnly(newUserPrefs.isAddressBookReadOnly());
+        setAddressBookLoadedProgressively(newUserPrefs.isAddressBookLoadedProgressively());
+        setAddressBookSaveDurability(newUserPrefs.getAddressBookSaveDurability());
+        setAddressBookCompressionLevel(newUserPrefs.getAddressBookCompressionLevel());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +76,70 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean isAddressBookJournaled() {
+        return isAddressBookJournaled;
+    }
+
+    public void setAddressBookJournaled(boolean isAddressBookJournaled) {
+        this.isAddressBookJournaled = isAddressBookJournaled;
+    }
+
+    public boolean isAddressBookCompact() {
+        return isAddressBookCompact;
+    }
+
+    public void setAddressBookCompact(boolean isAddressBookCompact) {
+        this.isAddressBookCompact = isAddressBookCompact;
+    }
+
+    public boolean isAddressBookReadOnly() {
+        return isAddressBookReadOnly;
+    }
+
+    public void setAddressBookReadOnly(boolean isAddressBookReadOnly) {
+        this.isAddressBookReadOnly = isAddressBookReadOnly;
+    }
+
+    public boolean isAddressBookLoadedProgressively() {
+        return isAddressBookLoadedProgressively;
+    }
+
+    public void setAddressBookLoadedProgressively(boolean isAddressBookLoadedProgressively) {
+        this.isAddressBookLoadedProgressively = isAddressBookLoadedProgressively;
+    }
+
+    public SaveDurability getAddressBookSaveDurability() {
+        return addressBookSaveDurability;
+    }
+
+    public void setAddressBookSaveDurability(SaveDurability addressBookSaveDurability) {
+        requireNonNull(addressBookSaveDurability);
+        this.addressBookSaveDurability = addressBookSaveDurability;
+    }
+
+    public int getAddressBookCompressionLevel() {
+        return addressBookCompressionLevel;
+    }
+
+    /**
+     * Sets the gzip level that a data file whose name ends with {@code .gz} is compressed at.
+     * {@code addressBookCompressionLevel} is -1 for the default level, or from 0 (no compression) to 9 (best).
+     */
+    public void setAddressBookCompressionLevel(int addressBookCompressionLevel) {
+        checkArgument(addressBookCompressionLevel >= Deflater.DEFAULT_COMPRESSION
+                && addressBookCompressionLevel <= Deflater.BEST_COMPRESSION, MESSAGE_INVALID_COMPRESSION_LEVEL);
+        this.addressBookCompressionLevel = addressBookCompressionLevel;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +153,21 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && isAddressBookJournaled == otherUserPrefs.isAddressBookJournaled
+                && isAddressBookCompact == otherUserPrefs.isAddressBookCompact
+                && isAddressBookReadOnly == otherUserPrefs.isAddressBookReadOnly
+                && isAddressBookLoadedProgressively == otherUserPrefs.isAddressBookLoadedProgressively
+                && addressBookSaveDurability == otherUserPrefs.addressBookSaveDurability
+                && addressBookCompressionLevel == otherUserPrefs.addressBookCompressionLevel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, isAddressBookJournaled,
+                isAddressBookCompact, isAddressBookReadOnly, isAddressBookLoadedProgressively,
+                addressBookSaveDurability, addressBookCompressionLevel);
     }
 
     @Override
@@ -82,6 +175,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nJournal changes to data file : " + isAddressBookJournaled);
+        sb.append("\nWrite data file without indentation : " + isAddressBookCompact);
+        sb.append("\nOpen data file read-only : " + isAddressBookReadOnly);
+        sb.append("\nLoad contracts and appointments in the background : " + isAddressBookLoadedProgressively);
+        sb.append("\nData file save durability : " + addressBookSaveDurability);
+        sb.append("\nData file compression level : " + addressBookCompressionLevel);
         return sb.toString();
     }
 
@@ -1,6 +1,7 @@
 package seedu.address.model.appointment;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -73,6 +74,14 @@ public class Appointment {
                 && otherAppointment.getDetails().equals(getDetails());
     }
 
+    /**
+     * Returns a key that is equal for two appointments exactly when {@link Appointment#isSameAppointment} holds
+     * between them.
+     */
+    public List<Object> getIdentityKey() {
+        return List.of(nric, appDate, details);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
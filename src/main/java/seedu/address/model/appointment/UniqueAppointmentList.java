@@ -2,14 +2,28 @@ package seedu.address.model.appointment;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.util.BucketIndex.addToBucket;
+import static seedu.address.model.util.BucketIndex.removeFromBucket;
+import static seedu.address.model.util.BucketIndex.replaceInBucket;
+import static seedu.address.model.util.BucketIndex.viewOf;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.contact.Nric;
 
 /**
  * A list of appointments that enforces uniqueness between its elements and does not allow nulls.
@@ -20,6 +34,9 @@ import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
  * the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Hash indexes from appointment id and from contact NRIC to the matching appointments are kept in sync with the
+ * backing list so that appointments can be looked up by id or by contact without scanning the whole list.
+ * A calendar index ordered by date answers date range queries in time proportional to the appointments in range.
  *
  * @see Appointment#isSameAppointment(Appointment)
  */
@@ -28,13 +45,16 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     private final ObservableList<Appointment> internalList = FXCollections.observableArrayList();
     private final ObservableList<Appointment> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<AppointmentId, List<Appointment>> idToAppointments = new HashMap<>();
+    private final Map<Nric, List<Appointment>> nricToAppointments = new HashMap<>();
+    private final NavigableMap<LocalDate, List<Appointment>> dateToAppointments = new TreeMap<>();
 
     /**
      * Returns true if the list contains an equivalent appointment as the given argument.
      */
     public boolean contains(Appointment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAppointment);
+        return getAppointments(toCheck.getNric()).stream().anyMatch(toCheck::isSameAppointment);
     }
 
     /**
@@ -42,7 +62,57 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public boolean hasAppointment(AppointmentId aId) {
         requireNonNull(aId);
-        return internalList.stream().anyMatch(x -> x.getAId().equals(aId));
+        return idToAppointments.containsKey(aId);
+    }
+
+    /**
+     * Returns the earliest added appointment with the given id, or null if no such appointment exists in the list.
+     */
+    public Appointment getAppointment(AppointmentId aId) {
+        requireNonNull(aId);
+        List<Appointment> matches = idToAppointments.get(aId);
+        return matches == null ? null : matches.get(0);
+    }
+
+    /**
+     * Returns an unmodifiable view of the appointments with the contact identified by {@code nric},
+     * in the order they were added.
+     */
+    public List<Appointment> getAppointments(Nric nric) {
+        requireNonNull(nric);
+        List<Appointment> matches = nricToAppointments.get(nric);
+        return viewOf(matches);
+    }
+
+    /**
+     * Returns the appointments dated between {@code from} and {@code to}, both inclusive, ordered by date.
+     */
+    public List<Appointment> getAppointmentsBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return Collections.emptyList();
+        }
+
+        List<Appointment> appointmentsInRange = new ArrayList<>();
+        dateToAppointments.subMap(from, true, to, true).values().forEach(appointmentsInRange::addAll);
+        return appointmentsInRange;
+    }
+
+    /**
+     * Returns at most {@code count} appointments dated on or after {@code from}, ordered by date.
+     */
+    public List<Appointment> getUpcomingAppointments(LocalDate from, int count) {
+        requireNonNull(from);
+        List<Appointment> upcoming = new ArrayList<>();
+        for (List<Appointment> onDate : dateToAppointments.tailMap(from, true).values()) {
+            for (Appointment appointment : onDate) {
+                if (upcoming.size() >= count) {
+                    return upcoming;
+                }
+                upcoming.add(appointment);
+            }
+        }
+        return upcoming;
     }
 
     /**
@@ -55,6 +125,20 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
             throw new DuplicateAppointmentException();
         }
         internalList.add(toAdd);
+        index(toAdd);
+    }
+
+    /**
+     * Adds all appointments in {@code toAdd} to the end of the list with a single list change.
+     * No appointment may already exist in the list, and {@code toAdd} must not contain duplicate appointments.
+     */
+    public void addAll(List<Appointment> toAdd) {
+        requireAllNonNull(toAdd);
+        if (toAdd.stream().anyMatch(this::contains) || !appointmentsAreUnique(toAdd)) {
+            throw new DuplicateAppointmentException();
+        }
+        internalList.addAll(toAdd);
+        toAdd.forEach(this::index);
     }
 
     /**
@@ -76,6 +160,11 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         }
 
         internalList.set(index, editedAppointment);
+        replaceInBucket(idToAppointments, target.getAId(), editedAppointment.getAId(), target, editedAppointment);
+        replaceInBucket(nricToAppointments, target.getNric(), editedAppointment.getNric(), target,
+                editedAppointment);
+        replaceInBucket(dateToAppointments, target.getDate(), editedAppointment.getDate(), target,
+                editedAppointment);
     }
 
     /**
@@ -87,11 +176,16 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         if (!internalList.remove(toRemove)) {
             throw new AppointmentNotFoundException();
         }
+        unindex(toRemove);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setAppointments(UniqueAppointmentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -105,6 +199,7 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         }
 
         internalList.setAll(appointments);
+        reindex();
     }
 
     /**
@@ -143,15 +238,42 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         return internalList.toString();
     }
 
+    /**
+     * Records {@code appointment} in every index.
+     */
+    private void index(Appointment appointment) {
+        addToBucket(idToAppointments, appointment.getAId(), appointment);
+        addToBucket(nricToAppointments, appointment.getNric(), appointment);
+        addToBucket(dateToAppointments, appointment.getDate(), appointment);
+    }
+
+    /**
+     * Removes {@code appointment} from every index.
+     */
+    private void unindex(Appointment appointment) {
+        removeFromBucket(idToAppointments, appointment.getAId(), appointment);
+        removeFromBucket(nricToAppointments, appointment.getNric(), appointment);
+        removeFromBucket(dateToAppointments, appointment.getDate(), appointment);
+    }
+
+    /**
+     * Rebuilds every index from the backing list.
+     */
+    private void reindex() {
+        idToAppointments.clear();
+        nricToAppointments.clear();
+        dateToAppointments.clear();
+        internalList.forEach(this::index);
+    }
+
     /**
      * Returns true if {@code appointments} contains only unique appointments.
      */
     private boolean appointmentsAreUnique(List<Appointment> appointments) {
-        for (int i = 0; i < appointments.size() - 1; i++) {
-            for (int j = i + 1; j < appointments.size(); j++) {
-                if (appointments.get(i).isSameAppointment(appointments.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> seen = new HashSet<>();
+        for (Appointment appointment : appointments) {
+            if (!seen.add(appointment.getIdentityKey())) {
+                return false;
             }
         }
         return true;
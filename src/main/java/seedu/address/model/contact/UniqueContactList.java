@@ -3,8 +3,12 @@ package seedu.address.model.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +24,8 @@ import seedu.address.model.contact.exceptions.DuplicateContactException;
  * as to ensure that the contact with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * A hash index from NRIC to list position is kept in sync with the backing list so that lookups by NRIC
+ * do not have to scan every contact.
  *
  * @see Contact#isSameContact(Contact)
  */
@@ -29,13 +35,14 @@ public class UniqueContactList implements Iterable<Contact> {
     private final ObservableList<Contact> internalList = FXCollections.observableArrayList();
     private final ObservableList<Contact> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Nric, Integer> nricToIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent contact as the given argument.
      */
     public boolean contains(Contact toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameContact);
+        return nricToIndex.containsKey(toCheck.getNric());
     }
 
     /**
@@ -43,7 +50,16 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public boolean contains(Nric nric) {
         requireNonNull(nric);
-        return internalList.stream().anyMatch(contact -> contact.getNric().equals(nric));
+        return nricToIndex.containsKey(nric);
+    }
+
+    /**
+     * Returns the contact with the given NRIC, or null if no such contact exists in the list.
+     */
+    public Contact getContact(Nric nric) {
+        requireNonNull(nric);
+        Integer index = nricToIndex.get(nric);
+        return index == null ? null : internalList.get(index);
     }
 
     /**
@@ -55,6 +71,7 @@ public class UniqueContactList implements Iterable<Contact> {
         if (contains(toAdd)) {
             throw new DuplicateContactException();
         }
+        nricToIndex.put(toAdd.getNric(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -66,7 +83,7 @@ public class UniqueContactList implements Iterable<Contact> {
     public void setContact(Contact target, Contact editedContact) {
         requireAllNonNull(target, editedContact);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ContactNotFoundException();
         }
@@ -75,6 +92,8 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicateContactException();
         }
 
+        nricToIndex.remove(target.getNric());
+        nricToIndex.put(editedContact.getNric(), index);
         internalList.set(index, editedContact);
     }
 
@@ -84,14 +103,24 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public void remove(Contact toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ContactNotFoundException();
         }
+
+        internalList.remove(index);
+        nricToIndex.remove(toRemove.getNric());
+        reindexFrom(index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setContacts(UniqueContactList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nricToIndex.clear();
+        nricToIndex.putAll(replacement.nricToIndex);
     }
 
     /**
@@ -105,6 +134,8 @@ public class UniqueContactList implements Iterable<Contact> {
         }
 
         internalList.setAll(contacts);
+        nricToIndex.clear();
+        reindexFrom(0);
     }
 
     /**
@@ -144,15 +175,35 @@ public class UniqueContactList implements Iterable<Contact> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of {@code contact} in the backing list, or -1 if it is not in the list.
+     * Only the slot indexed under the contact's NRIC is checked, since NRICs are unique within the list.
+     */
+    private int indexOf(Contact contact) {
+        Integer index = nricToIndex.get(contact.getNric());
+        if (index == null || !internalList.get(index).equals(contact)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Re-records the positions of all contacts from {@code start} to the end of the backing list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            nricToIndex.put(internalList.get(i).getNric(), i);
+        }
+    }
+
     /**
      * Returns true if {@code contacts} contains only unique contacts.
      */
     private boolean contactsAreUnique(List<Contact> contacts) {
-        for (int i = 0; i < contacts.size() - 1; i++) {
-            for (int j = i + 1; j < contacts.size(); j++) {
-                if (contacts.get(i).isSameContact(contacts.get(j))) {
-                    return false;
-                }
+        Set<Nric> seen = new HashSet<>();
+        for (Contact contact : contacts) {
+            if (!seen.add(contact.getNric())) {
+                return false;
             }
         }
         return true;
@@ -1,6 +1,7 @@
 package seedu.address.model.contract;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -106,6 +107,13 @@ public class Contract {
                 && otherContract.getPId().equals(getPId());
     }
 
+    /**
+     * Returns a key that is equal for two contracts exactly when {@link Contract#isSameContract} holds between them.
+     */
+    public List<Object> getIdentityKey() {
+        return List.of(nric, pId);
+    }
+
     public static int compareByExpiryDate(Contract c1, Contract c2) {
         return c1.getExpiryDate().compareTo(c2.getExpiryDate());
     }
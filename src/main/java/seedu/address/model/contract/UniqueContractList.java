@@ -2,14 +2,29 @@ package seedu.address.model.contract;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.util.BucketIndex.addToBucket;
+import static seedu.address.model.util.BucketIndex.removeFromBucket;
+import static seedu.address.model.util.BucketIndex.replaceInBucket;
+import static seedu.address.model.util.BucketIndex.viewOf;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.contact.Nric;
 import seedu.address.model.contract.exceptions.ContractNotFoundException;
 import seedu.address.model.contract.exceptions.DuplicateContractException;
+import seedu.address.model.policy.PolicyId;
 
 /**
  * A list of contracts that enforces uniqueness between its elements and does not allow nulls.
@@ -20,6 +35,9 @@ import seedu.address.model.contract.exceptions.DuplicateContractException;
  * fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Hash indexes from contract id, contact NRIC and policy id to the matching contracts are kept in sync with the
+ * backing list so that contracts can be looked up by any of them without scanning the whole list. An index ordered
+ * by expiry date answers expiry range queries in time proportional to the number of contracts in the range.
  *
  * @see Contract#isSameContract(Contract)
  */
@@ -28,13 +46,66 @@ public class UniqueContractList implements Iterable<Contract> {
     private final ObservableList<Contract> internalList = FXCollections.observableArrayList();
     private final ObservableList<Contract> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<ContractId, List<Contract>> idToContracts = new HashMap<>();
+    private final Map<Nric, List<Contract>> nricToContracts = new HashMap<>();
+    private final Map<PolicyId, List<Contract>> policyIdToContracts = new HashMap<>();
+    private final NavigableMap<LocalDate, List<Contract>> expiryToContracts = new TreeMap<>();
 
     /**
      * Returns true if the list contains an equivalent contract as the given argument.
      */
     public boolean contains(Contract toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameContract);
+        return getContracts(toCheck.getNric()).stream().anyMatch(toCheck::isSameContract);
+    }
+
+    /**
+     * Returns true if the list contains a contract with the given id.
+     */
+    public boolean containsId(ContractId contractId) {
+        requireNonNull(contractId);
+        return idToContracts.containsKey(contractId);
+    }
+
+    /**
+     * Returns the earliest added contract with the given id, or null if no such contract exists in the list.
+     */
+    public Contract getContract(ContractId contractId) {
+        requireNonNull(contractId);
+        List<Contract> matches = idToContracts.get(contractId);
+        return matches == null ? null : matches.get(0);
+    }
+
+    /**
+     * Returns an unmodifiable view of the contracts held by the contact identified by {@code nric},
+     * in the order they were added.
+     */
+    public List<Contract> getContracts(Nric nric) {
+        requireNonNull(nric);
+        return viewOf(nricToContracts.get(nric));
+    }
+
+    /**
+     * Returns an unmodifiable view of the contracts under the policy identified by {@code policyId},
+     * in the order they were added.
+     */
+    public List<Contract> getContracts(PolicyId policyId) {
+        requireNonNull(policyId);
+        return viewOf(policyIdToContracts.get(policyId));
+    }
+
+    /**
+     * Returns the contracts expiring between {@code from} and {@code to}, both inclusive, ordered by expiry date.
+     */
+    public List<Contract> getContractsExpiringBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return Collections.emptyList();
+        }
+
+        List<Contract> expiring = new ArrayList<>();
+        expiryToContracts.subMap(from, true, to, true).values().forEach(expiring::addAll);
+        return expiring;
     }
 
     /**
@@ -47,6 +118,20 @@ public class UniqueContractList implements Iterable<Contract> {
             throw new DuplicateContractException();
         }
         internalList.add(toAdd);
+        index(toAdd);
+    }
+
+    /**
+     * Adds all contracts in {@code toAdd} to the end of the list with a single list change.
+     * No contract may already exist in the list, and {@code toAdd} must not contain duplicate contracts.
+     */
+    public void addAll(List<Contract> toAdd) {
+        requireAllNonNull(toAdd);
+        if (toAdd.stream().anyMatch(this::contains) || !contractsAreUnique(toAdd)) {
+            throw new DuplicateContractException();
+        }
+        internalList.addAll(toAdd);
+        toAdd.forEach(this::index);
     }
 
     /**
@@ -67,6 +152,11 @@ public class UniqueContractList implements Iterable<Contract> {
         }
 
         internalList.set(index, editedContract);
+        replaceInBucket(idToContracts, target.getCId(), editedContract.getCId(), target, editedContract);
+        replaceInBucket(nricToContracts, target.getNric(), editedContract.getNric(), target, editedContract);
+        replaceInBucket(policyIdToContracts, target.getPId(), editedContract.getPId(), target, editedContract);
+        replaceInBucket(expiryToContracts, target.getExpiryDate(), editedContract.getExpiryDate(), target,
+                editedContract);
     }
 
     /**
@@ -78,11 +168,16 @@ public class UniqueContractList implements Iterable<Contract> {
         if (!internalList.remove(toRemove)) {
             throw new ContractNotFoundException();
         }
+        unindex(toRemove);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setContracts(UniqueContractList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -96,6 +191,7 @@ public class UniqueContractList implements Iterable<Contract> {
         }
 
         internalList.setAll(contracts);
+        reindex();
     }
 
     /**
@@ -134,15 +230,45 @@ public class UniqueContractList implements Iterable<Contract> {
         return internalList.toString();
     }
 
+    /**
+     * Records {@code contract} in every index.
+     */
+    private void index(Contract contract) {
+        addToBucket(idToContracts, contract.getCId(), contract);
+        addToBucket(nricToContracts, contract.getNric(), contract);
+        addToBucket(policyIdToContracts, contract.getPId(), contract);
+        addToBucket(expiryToContracts, contract.getExpiryDate(), contract);
+    }
+
+    /**
+     * Removes {@code contract} from every index.
+     */
+    private void unindex(Contract contract) {
+        removeFromBucket(idToContracts, contract.getCId(), contract);
+        removeFromBucket(nricToContracts, contract.getNric(), contract);
+        removeFromBucket(policyIdToContracts, contract.getPId(), contract);
+        removeFromBucket(expiryToContracts, contract.getExpiryDate(), contract);
+    }
+
+    /**
+     * Rebuilds every index from the backing list.
+     */
+    private void reindex() {
+        idToContracts.clear();
+        nricToContracts.clear();
+        policyIdToContracts.clear();
+        expiryToContracts.clear();
+        internalList.forEach(this::index);
+    }
+
     /**
      * Returns true if {@code contracts} contains only unique contracts.
      */
     private boolean contractsAreUnique(List<Contract> contracts) {
-        for (int i = 0; i < contracts.size() - 1; i++) {
-            for (int j = i + 1; j < contracts.size(); j++) {
-                if (contracts.get(i).isSameContract(contracts.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> seen = new HashSet<>();
+        for (Contract contract : contracts) {
+            if (!seen.add(contract.getIdentityKey())) {
+                return false;
             }
         }
         return true;
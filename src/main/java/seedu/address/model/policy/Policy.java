@@ -121,16 +121,22 @@ public class Policy {
      * Returns true if {@code policies} contains only unique policies by {@link Policy#isSamePolicy}.
      */
     public static boolean policiesAreUnique(List<Policy> policies) {
-        for (int i = 0; i < policies.size() - 1; i++) {
-            for (int j = i + 1; j < policies.size(); j++) {
-                if (policies.get(i).isSamePolicy(policies.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> seen = new HashSet<>();
+        for (Policy policy : policies) {
+            if (!seen.add(policy.getFieldsKey())) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns a key that is equal for two policies exactly when {@link Policy#isSamePolicy} holds between them.
+     */
+    List<Object> getFieldsKey() {
+        return List.of(policyName, policyDetails);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
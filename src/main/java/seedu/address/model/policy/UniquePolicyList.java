@@ -4,8 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.policy.Policy.policiesAreUnique;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +24,9 @@ import seedu.address.model.policy.exceptions.PolicyNotFoundException;
  * as to ensure that the policy with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * A hash index from policy id to list position is kept in sync with the backing list so that lookups by id
+ * do not have to scan every policy, and the name and details of every policy are counted so that
+ * {@link #containsSamePolicy(Policy)} does not either.
  *
  * @see Policy#hasSameId(Policy)
  */
@@ -28,13 +35,15 @@ public class UniquePolicyList implements Iterable<Policy> {
     private final ObservableList<Policy> internalList = FXCollections.observableArrayList();
     private final ObservableList<Policy> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<PolicyId, Integer> idToIndex = new HashMap<>();
+    private final Map<List<Object>, Integer> fieldsKeyCounts = new HashMap<>();
 
     /**
      * Returns true if the list contains a policy with the same id as the given argument.
      */
     public boolean containsSameId(Policy toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSameId);
+        return idToIndex.containsKey(toCheck.getId());
     }
 
     /**
@@ -42,7 +51,7 @@ public class UniquePolicyList implements Iterable<Policy> {
      */
     public boolean containsSamePolicy(Policy toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePolicy);
+        return fieldsKeyCounts.containsKey(toCheck.getFieldsKey());
     }
 
     /**
@@ -50,7 +59,16 @@ public class UniquePolicyList implements Iterable<Policy> {
      */
     public boolean containsId(PolicyId toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(policy -> policy.getId().equals(toCheck));
+        return idToIndex.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the policy with the given id, or null if no such policy exists in the list.
+     */
+    public Policy getPolicy(PolicyId policyId) {
+        requireNonNull(policyId);
+        Integer index = idToIndex.get(policyId);
+        return index == null ? null : internalList.get(index);
     }
 
     /**
@@ -62,6 +80,8 @@ public class UniquePolicyList implements Iterable<Policy> {
         if (containsSameId(toAdd) || containsSamePolicy(toAdd)) {
             throw new DuplicatePolicyException();
         }
+        idToIndex.put(toAdd.getId(), internalList.size());
+        countFields(toAdd);
         internalList.add(toAdd);
     }
 
@@ -82,7 +102,10 @@ public class UniquePolicyList implements Iterable<Policy> {
             throw new DuplicatePolicyException();
         }
 
+        int start = internalList.size();
         internalList.addAll(toAdd);
+        toAdd.forEach(this::countFields);
+        reindexFrom(start);
     }
 
     /**
@@ -93,7 +116,7 @@ public class UniquePolicyList implements Iterable<Policy> {
     public void setPolicy(Policy target, Policy editedPolicy) {
         requireAllNonNull(target, editedPolicy);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PolicyNotFoundException();
         }
@@ -102,6 +125,10 @@ public class UniquePolicyList implements Iterable<Policy> {
             throw new DuplicatePolicyException();
         }
 
+        idToIndex.remove(target.getId());
+        idToIndex.put(editedPolicy.getId(), index);
+        uncountFields(target);
+        countFields(editedPolicy);
         internalList.set(index, editedPolicy);
     }
 
@@ -111,14 +138,27 @@ public class UniquePolicyList implements Iterable<Policy> {
      */
     public void remove(Policy toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PolicyNotFoundException();
         }
+
+        internalList.remove(index);
+        idToIndex.remove(toRemove.getId());
+        uncountFields(toRemove);
+        reindexFrom(index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPolicies(UniquePolicyList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        idToIndex.clear();
+        idToIndex.putAll(replacement.idToIndex);
+        fieldsKeyCounts.clear();
+        fieldsKeyCounts.putAll(replacement.fieldsKeyCounts);
     }
 
     /**
@@ -132,6 +172,10 @@ public class UniquePolicyList implements Iterable<Policy> {
         }
 
         internalList.setAll(policies);
+        idToIndex.clear();
+        reindexFrom(0);
+        fieldsKeyCounts.clear();
+        policies.forEach(this::countFields);
     }
 
     /**
@@ -139,7 +183,7 @@ public class UniquePolicyList implements Iterable<Policy> {
      */
     public boolean hasPolicy(PolicyId pId) {
         requireNonNull(pId);
-        return internalList.stream().anyMatch(x -> x.getId().equals(pId));
+        return idToIndex.containsKey(pId);
     }
 
     /**
@@ -179,17 +223,45 @@ public class UniquePolicyList implements Iterable<Policy> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of {@code policy} in the backing list, or -1 if it is not in the list.
+     * Only the slot indexed under the policy's id is checked, since policy ids are unique within the list.
+     */
+    private int indexOf(Policy policy) {
+        Integer index = idToIndex.get(policy.getId());
+        if (index == null || !internalList.get(index).equals(policy)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Re-records the positions of all policies from {@code start} to the end of the backing list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            idToIndex.put(internalList.get(i).getId(), i);
+        }
+    }
+
     /**
      * Returns true if {@code policies} contains only unique policy ids.
      */
     private boolean policiesHaveUniqueIds(List<Policy> policies) {
-        for (int i = 0; i < policies.size() - 1; i++) {
-            for (int j = i + 1; j < policies.size(); j++) {
-                if (policies.get(i).hasSameId(policies.get(j))) {
-                    return false;
-                }
+        Set<PolicyId> seen = new HashSet<>();
+        for (Policy policy : policies) {
+            if (!seen.add(policy.getId())) {
+                return false;
             }
         }
         return true;
     }
+
+    private void countFields(Policy policy) {
+        fieldsKeyCounts.merge(policy.getFieldsKey(), 1, Integer::sum);
+    }
+
+    private void uncountFields(Policy policy) {
+        fieldsKeyCounts.computeIfPresent(policy.getFieldsKey(), (key, count) -> count == 1 ? null : count - 1);
+    }
 }
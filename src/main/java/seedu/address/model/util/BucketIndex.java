@@ -0,0 +1,52 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contains utility methods for indexes that map a key to the bucket of elements with that key.
+ * A bucket keeps its elements in the order they were added, and an empty bucket is removed from its index.
+ */
+public class BucketIndex {
+
+    /**
+     * Returns an unmodifiable view of {@code bucket}, or an empty list if there is no bucket.
+     */
+    public static <E> List<E> viewOf(List<E> bucket) {
+        return bucket == null ? Collections.emptyList() : Collections.unmodifiableList(bucket);
+    }
+
+    /**
+     * Adds {@code element} to the end of the bucket for {@code key} in {@code index}.
+     */
+    public static <K, E> void addToBucket(Map<K, List<E>> index, K key, E element) {
+        index.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(element);
+    }
+
+    /**
+     * Removes {@code element} from the bucket for {@code key} in {@code index}, which must hold it.
+     */
+    public static <K, E> void removeFromBucket(Map<K, List<E>> index, K key, E element) {
+        List<E> bucket = index.get(key);
+        bucket.remove(element);
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code edited} in {@code index}, keeping its position in the bucket
+     * when the key is unchanged.
+     */
+    public static <K, E> void replaceInBucket(Map<K, List<E>> index, K oldKey, K newKey, E target, E edited) {
+        if (oldKey.equals(newKey)) {
+            List<E> bucket = index.get(oldKey);
+            bucket.set(bucket.indexOf(target), edited);
+        } else {
+            removeFromBucket(index, oldKey, target);
+            addToBucket(index, newKey, edited);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.model.util;
+
+import java.util.Comparator;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A sorted view of an {@code ObservableList} that shows the list in its own order until a comparator is first set.
+ * Until then, elements are only read from the list as the view is read, whereas a {@code SortedList} reads every
+ * element of its list as soon as it is built. Once a comparator is set, the view is backed by a {@code SortedList}.
+ */
+public class LazySortedList<E> extends TransformationList<E, E> {
+
+    private SortedList<E> sorted;
+
+    public LazySortedList(ObservableList<? extends E> source) {
+        super(source);
+    }
+
+    /**
+     * Returns the comparator that orders this view, or null if the view is in the order of its list.
+     */
+    public Comparator<? super E> getComparator() {
+        return sorted == null ? null : sorted.getComparator();
+    }
+
+    /**
+     * Orders this view by {@code comparator}, or in the order of its list if {@code comparator} is null.
+     */
+    public void setComparator(Comparator<? super E> comparator) {
+        if (sorted != null) {
+            sorted.setComparator(comparator);
+            return;
+        }
+        if (comparator == null) {
+            return;
+        }
+
+        sorted = new SortedList<>(getSource(), comparator);
+        sorted.addListener((ListChangeListener<E>) this::forward);
+        if (sorted.isEmpty()) {
+            return;
+        }
+        int[] permutation = new int[sorted.size()];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = sorted.getViewIndex(i);
+        }
+        beginChange();
+        nextPermutation(0, permutation.length, permutation);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return sorted == null ? getSource().get(index) : sorted.get(index);
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return sorted == null ? index : sorted.getSourceIndex(index);
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return sorted == null ? index : sorted.getViewIndex(index);
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> c) {
+        // Once sorted, changes to the list reach this view through the sorted list instead.
+        if (sorted == null) {
+            forward(c);
+        }
+    }
+
+    /**
+     * Fires {@code c}, a change to a list in the same order as this view, as a change to this view.
+     */
+    private void forward(ListChangeListener.Change<? extends E> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                int[] permutation = new int[c.getTo() - c.getFrom()];
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    permutation[i - c.getFrom()] = c.getPermutation(i);
+                }
+                nextPermutation(c.getFrom(), c.getTo(), permutation);
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else if (c.wasReplaced()) {
+                nextReplace(c.getFrom(), c.getTo(), c.getRemoved());
+            } else if (c.wasRemoved()) {
+                nextRemove(c.getFrom(), c.getRemoved());
+            } else if (c.wasAdded()) {
+                nextAdd(c.getFrom(), c.getTo());
+            }
+        }
+        endChange();
+    }
+}
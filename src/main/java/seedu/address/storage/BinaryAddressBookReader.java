@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookStorage.FORMAT_VERSION;
+import static seedu.address.storage.BinaryAddressBookStorage.HEADER_SIZE;
+import static seedu.address.storage.BinaryAddressBookStorage.MAGIC;
+import static seedu.address.storage.BinaryEntryDecoder.MESSAGE_CORRUPT;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.exceptions.InvalidContractDatesException;
+import seedu.address.model.policy.Policy;
+
+/**
+ * Reads an address book from a binary snapshot in the format described in {@link BinaryAddressBookStorage}.
+ * The body is read sequentially from the channel through a single buffer, and each entry is converted to its model
+ * type by a {@link BinaryEntryDecoder} as soon as it has been read.
+ */
+class BinaryAddressBookReader {
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary address book does not match its checksum.";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final CRC32 checksum = new CRC32();
+    private ByteBuffer in = ByteBuffer.allocate(BUFFER_SIZE);
+    private long unreadBodyLength;
+
+    private BinaryAddressBookReader(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Returns the address book in {@code channel}, which must be at the start of a binary snapshot.
+     *
+     * @throws IOException if the file cannot be read or ends early.
+     * @throws IllegalValueException if the file is not a supported snapshot or holds invalid data.
+     */
+    static AddressBook read(FileChannel channel) throws IOException, IllegalValueException {
+        return new BinaryAddressBookReader(channel).read();
+    }
+
+    /**
+     * Reads the magic number and format version from {@code header} and checks that they are supported.
+     * The buffer is left at the body length.
+     *
+     * @throws IllegalValueException if the header is not that of a supported snapshot.
+     */
+    static void checkHeader(ByteBuffer header) throws IllegalValueException {
+        if (header.getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+        int version = header.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+    }
+
+    private AddressBook read() throws IOException, IllegalValueException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header) < 0) {
+                throw new EOFException(MESSAGE_CORRUPT);
+            }
+        }
+        header.flip();
+        checkHeader(header);
+        unreadBodyLength = header.getLong();
+        int expectedChecksum = header.getInt();
+        in.limit(0);
+
+        try {
+            AddressBook addressBook = readBody();
+            if (in.hasRemaining() || unreadBodyLength != 0) {
+                throw new IllegalValueException(MESSAGE_CORRUPT);
+            }
+            if ((int) checksum.getValue() != expectedChecksum) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            return addressBook;
+        } catch (IllegalArgumentException | InvalidContractDatesException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private AddressBook readBody() throws IOException, IllegalValueException {
+        int stringCount = readEntryCount();
+        List<String> strings = new ArrayList<>(stringCount);
+        for (int i = 0; i < stringCount; i++) {
+            strings.add(BinaryEntryDecoder.decodeString(in, startEntry()));
+        }
+
+        List<Contract> contractList = new ArrayList<>();
+        BinaryEntryDecoder decoder = new BinaryEntryDecoder(strings, contractList);
+        for (int count = readEntryCount(); count > 0; count--) {
+            contractList.add(decoder.decodeContract(in, startEntry()));
+        }
+
+        int contactCount = readEntryCount();
+        List<Contact> contactList = new ArrayList<>(contactCount);
+        for (int i = 0; i < contactCount; i++) {
+            contactList.add(decoder.decodeContact(in, startEntry()));
+        }
+
+        int policyCount = readEntryCount();
+        List<Policy> policyList = new ArrayList<>(policyCount);
+        for (int i = 0; i < policyCount; i++) {
+            policyList.add(decoder.decodePolicy(in, startEntry()));
+        }
+
+        int appointmentCount = readEntryCount();
+        List<Appointment> appointmentList = new ArrayList<>(appointmentCount);
+        for (int i = 0; i < appointmentCount; i++) {
+            appointmentList.add(decoder.decodeAppointment(in, startEntry()));
+        }
+
+        return JsonSerializableAddressBook.toAddressBook(contactList, policyList, contractList, appointmentList);
+    }
+
+    /**
+     * Reads the number of entries in the next section.
+     */
+    private int readCount() throws IOException, IllegalValueException {
+        fill(Integer.BYTES);
+        int count = in.getInt();
+        if (count < 0) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+        return count;
+    }
+
+    /**
+     * Reads the number of entries in the next section, checking that the rest of the body can hold that many entries
+     * before any list is sized from it.
+     */
+    private int readEntryCount() throws IOException, IllegalValueException {
+        int count = readCount();
+        if (count > (in.remaining() + unreadBodyLength) / Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+        return count;
+    }
+
+    /**
+     * Reads the length of the next entry and makes the whole entry available in the buffer.
+     *
+     * @return the buffer position at which the entry ends.
+     */
+    private int startEntry() throws IOException, IllegalValueException {
+        int length = readCount();
+        if (length > in.remaining() + unreadBodyLength) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+        fill(length);
+        return in.position() + length;
+    }
+
+    /**
+     * Reads from the channel until at least {@code length} bytes are available in the buffer.
+     */
+    private void fill(int length) throws IOException {
+        if (in.remaining() >= length) {
+            return;
+        }
+        if (length > in.capacity()) {
+            ByteBuffer larger = ByteBuffer.allocate(length);
+            larger.put(in);
+            in = larger;
+        } else {
+            in.compact();
+        }
+        while (in.position() < length) {
+            if (unreadBodyLength == 0) {
+                throw new EOFException(MESSAGE_CORRUPT);
+            }
+            int start = in.position();
+            in.limit((int) Math.min(in.capacity(), start + unreadBodyLength));
+            int read = channel.read(in);
+            if (read < 0) {
+                throw new EOFException(MESSAGE_CORRUPT);
+            }
+            checksum.update(in.array(), in.arrayOffset() + start, read);
+            unreadBodyLength -= read;
+        }
+        in.flip();
+    }
+}
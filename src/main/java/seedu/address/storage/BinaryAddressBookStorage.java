@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.SaveDurability;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * <p>
+ * The file starts with a fixed header: a magic number, the format version, the length of the body and a CRC-32
+ * checksum of the body. The body holds a table of the strings that are shared between entries, such as NRICs, names,
+ * tags and policy ids, followed by the contracts, contacts, policies and appointments. Each section starts with its
+ * number of entries and each entry is prefixed with its length in bytes. Entries refer to shared strings and to
+ * contracts by their index in the string table and in the contracts section, and store dates as epoch days.
+ * <p>
+ * Files that do not start with the magic number are read as JSON, so that a JSON data file can be imported by
+ * placing it at the file path. Saves always write a binary snapshot.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    static final int MAGIC = 0x49434F4E;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES + Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final SaveDurability durability;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, SaveDurability.NONE);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for {@code filePath} that forces each save to disk as far as
+     * {@code durability} asks.
+     */
+    public BinaryAddressBookStorage(Path filePath, SaveDurability durability) {
+        requireNonNull(durability);
+        this.filePath = filePath;
+        this.durability = durability;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (!isBinarySnapshot(channel)) {
+                logger.info(filePath + " is not a binary snapshot, reading it as JSON.");
+                return JsonAddressBookStreamReader.readAddressBook(filePath);
+            }
+            return Optional.of(BinaryAddressBookReader.read(channel));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        BinaryAddressBookWriter.write(addressBook, filePath, durability);
+    }
+
+    /**
+     * Returns true if {@code channel} starts with the magic number of a binary snapshot.
+     * The channel is left at its start.
+     */
+    static boolean isBinarySnapshot(FileChannel channel) throws IOException {
+        ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+        while (magic.hasRemaining()) {
+            if (channel.read(magic) < 0) {
+                channel.position(0);
+                return false;
+            }
+        }
+        channel.position(0);
+        return magic.getInt(0) == MAGIC;
+    }
+}
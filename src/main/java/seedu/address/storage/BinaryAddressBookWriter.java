@@ -0,0 +1,261 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookStorage.FORMAT_VERSION;
+import static seedu.address.storage.BinaryAddressBookStorage.HEADER_SIZE;
+import static seedu.address.storage.BinaryAddressBookStorage.MAGIC;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.SaveDurability;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.policy.Policy;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book as a binary snapshot in the format described in {@link BinaryAddressBookStorage}.
+ * The body is written through a single buffer after the space reserved for the header, and the header is written
+ * last, once the length and checksum of the body are known. The snapshot is written to a temporary file that then
+ * replaces the data file, so an interrupted save leaves the previous snapshot in place.
+ */
+class BinaryAddressBookWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer out = ByteBuffer.allocate(BUFFER_SIZE);
+    private final CRC32 checksum = new CRC32();
+    private final Map<String, Integer> stringIndices = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final Map<Contract, Integer> contractIndices = new HashMap<>();
+    private ByteBuffer entry = ByteBuffer.allocate(BUFFER_SIZE);
+    private long bodyLength = 0;
+
+    private BinaryAddressBookWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, atomically replacing any existing file, and forces it to disk
+     * as far as {@code durability} asks.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath, SaveDurability durability) throws IOException {
+        FileUtil.writeChannelAtomically(filePath, channel -> new BinaryAddressBookWriter(channel).write(addressBook),
+                durability);
+    }
+
+    private void write(ReadOnlyAddressBook addressBook) throws IOException {
+        channel.position(HEADER_SIZE);
+        collectSharedStrings(addressBook);
+
+        writeCount(strings.size());
+        for (String string : strings) {
+            writeEntry(toBytes(string));
+        }
+
+        writeCount(addressBook.getContractList().size());
+        for (Contract contract : addressBook.getContractList()) {
+            contractIndices.put(contract, contractIndices.size());
+            startEntry();
+            putString(contract.getCId().toString());
+            putShared(contract.getName().fullName);
+            putShared(contract.getNric().toString());
+            putShared(contract.getPId().toString());
+            putDate(contract.getDate());
+            putDate(contract.getExpiryDate());
+            putString(contract.getPremium().toString());
+            endEntry();
+        }
+
+        writeCount(addressBook.getContactList().size());
+        for (Contact contact : addressBook.getContactList()) {
+            startEntry();
+            putShared(contact.getName().fullName);
+            putString(contact.getPhone().toString());
+            putShared(contact.getNric().toString());
+            putString(contact.getEmail().toString());
+            putString(contact.getAddress().toString());
+            putInt(contact.getTags().size());
+            for (Tag tag : contact.getTags()) {
+                putShared(tag.tagName);
+            }
+            putContracts(contact.getContracts());
+            endEntry();
+        }
+
+        writeCount(addressBook.getPolicyList().size());
+        for (Policy policy : addressBook.getPolicyList()) {
+            startEntry();
+            putShared(policy.getName().toString());
+            putString(policy.getDetails().toString());
+            putShared(policy.getId().toString());
+            putContracts(policy.getContracts());
+            endEntry();
+        }
+
+        writeCount(addressBook.getAppointmentList().size());
+        for (Appointment appointment : addressBook.getAppointmentList()) {
+            startEntry();
+            putString(appointment.getAId().toString());
+            putShared(appointment.getNric().toString());
+            putDate(appointment.getDate());
+            putString(appointment.getDetails().toString());
+            endEntry();
+        }
+
+        drain();
+        writeHeader();
+    }
+
+    /**
+     * Builds the table of strings that entries refer to by index.
+     */
+    private void collectSharedStrings(ReadOnlyAddressBook addressBook) {
+        for (Contract contract : addressBook.getContractList()) {
+            share(contract.getName().fullName);
+            share(contract.getNric().toString());
+            share(contract.getPId().toString());
+        }
+        for (Contact contact : addressBook.getContactList()) {
+            share(contact.getName().fullName);
+            share(contact.getNric().toString());
+            contact.getTags().forEach(tag -> share(tag.tagName));
+        }
+        for (Policy policy : addressBook.getPolicyList()) {
+            share(policy.getName().toString());
+            share(policy.getId().toString());
+        }
+        for (Appointment appointment : addressBook.getAppointmentList()) {
+            share(appointment.getNric().toString());
+        }
+    }
+
+    private void share(String string) {
+        if (stringIndices.putIfAbsent(string, strings.size()) == null) {
+            strings.add(string);
+        }
+    }
+
+    private void startEntry() {
+        entry.clear();
+    }
+
+    private void endEntry() throws IOException {
+        entry.flip();
+        writeEntry(entry);
+    }
+
+    private void writeEntry(byte[] bytes) throws IOException {
+        writeEntry(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Writes the remaining bytes of {@code bytes} prefixed with their length.
+     */
+    private void writeEntry(ByteBuffer bytes) throws IOException {
+        writeCount(bytes.remaining());
+        while (bytes.hasRemaining()) {
+            if (!out.hasRemaining()) {
+                drain();
+            }
+            int chunk = Math.min(bytes.remaining(), out.remaining());
+            out.put(bytes.array(), bytes.arrayOffset() + bytes.position(), chunk);
+            bytes.position(bytes.position() + chunk);
+        }
+    }
+
+    private void writeCount(int count) throws IOException {
+        if (out.remaining() < Integer.BYTES) {
+            drain();
+        }
+        out.putInt(count);
+    }
+
+    private void putContracts(Set<Contract> contracts) {
+        List<Integer> indices = new ArrayList<>(contracts.size());
+        for (Contract contract : contracts) {
+            Integer index = contractIndices.get(contract);
+            if (index != null) {
+                indices.add(index);
+            }
+        }
+        putInt(indices.size());
+        indices.forEach(this::putInt);
+    }
+
+    private void putShared(String string) {
+        putInt(stringIndices.get(string));
+    }
+
+    private void putDate(LocalDate date) {
+        putInt((int) date.toEpochDay());
+    }
+
+    private void putString(String string) {
+        byte[] bytes = toBytes(string);
+        putInt(bytes.length);
+        reserve(bytes.length);
+        entry.put(bytes);
+    }
+
+    private void putInt(int value) {
+        reserve(Integer.BYTES);
+        entry.putInt(value);
+    }
+
+    /**
+     * Grows the entry buffer so that it has room for {@code length} more bytes.
+     */
+    private void reserve(int length) {
+        if (entry.remaining() >= length) {
+            return;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(entry.capacity() * 2, entry.position() + length));
+        entry.flip();
+        larger.put(entry);
+        entry = larger;
+    }
+
+    /**
+     * Writes the buffered part of the body to the file.
+     */
+    private void drain() throws IOException {
+        out.flip();
+        checksum.update(out.array(), out.arrayOffset(), out.limit());
+        bodyLength += out.limit();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC);
+        header.putInt(FORMAT_VERSION);
+        header.putLong(bodyLength);
+        header.putInt((int) checksum.getValue());
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+    }
+
+    private static byte[] toBytes(String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.address.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDetails;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.contact.Address;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Email;
+import seedu.address.model.contact.Name;
+import seedu.address.model.contact.Nric;
+import seedu.address.model.contact.Phone;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractId;
+import seedu.address.model.contract.ContractPremium;
+import seedu.address.model.policy.Policy;
+import seedu.address.model.policy.PolicyDetails;
+import seedu.address.model.policy.PolicyId;
+import seedu.address.model.policy.PolicyName;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Decodes single entries of a binary snapshot in the format described in {@link BinaryAddressBookStorage}.
+ * Each entry is decoded from the position of the given buffer up to the given end position, which must be where the
+ * entry ends. Model objects for shared strings are created once and reused by every entry that refers to them.
+ * <p>
+ * The model constructors validate the decoded values and may throw {@code IllegalArgumentException} or
+ * {@code InvalidContractDatesException}; callers are responsible for reporting these.
+ */
+class BinaryEntryDecoder {
+
+    public static final String MESSAGE_CORRUPT = "Binary address book is corrupt.";
+
+    private final List<String> strings;
+    private final List<Contract> contracts;
+    private final Name[] names;
+    private final Nric[] nrics;
+    private final PolicyId[] policyIds;
+    private final PolicyName[] policyNames;
+    private final Tag[] tags;
+
+    /**
+     * Creates a decoder that resolves shared strings in {@code strings} and contracts in {@code contracts}.
+     * Contracts must be in {@code contracts} before any contact or policy that refers to them is decoded.
+     */
+    BinaryEntryDecoder(List<String> strings, List<Contract> contracts) {
+        this.strings = strings;
+        this.contracts = contracts;
+        names = new Name[strings.size()];
+        nrics = new Nric[strings.size()];
+        policyIds = new PolicyId[strings.size()];
+        policyNames = new PolicyName[strings.size()];
+        tags = new Tag[strings.size()];
+    }
+
+    /**
+     * Decodes an entry of the string table.
+     */
+    static String decodeString(ByteBuffer in, int end) {
+        return getBytes(in, end - in.position());
+    }
+
+    Contract decodeContract(ByteBuffer in, int end) throws IllegalValueException {
+        ContractId cId = new ContractId(getString(in, end));
+        Name name = getShared(in, end, names, Name::new);
+        Nric nric = getShared(in, end, nrics, Nric::new);
+        PolicyId pId = getShared(in, end, policyIds, PolicyId::new);
+        LocalDate dateSigned = getDate(in, end);
+        LocalDate expiryDate = getDate(in, end);
+        ContractPremium premium = new ContractPremium(getString(in, end));
+        checkEnd(in, end);
+        return new Contract(cId, name, nric, pId, dateSigned, expiryDate, premium);
+    }
+
+    Contact decodeContact(ByteBuffer in, int end) throws IllegalValueException {
+        Name name = getShared(in, end, names, Name::new);
+        Phone phone = new Phone(getString(in, end));
+        Nric nric = getShared(in, end, nrics, Nric::new);
+        Email email = new Email(getString(in, end));
+        Address address = new Address(getString(in, end));
+        Set<Tag> contactTags = new HashSet<>();
+        for (int tagCount = getInt(in, end); tagCount > 0; tagCount--) {
+            contactTags.add(getShared(in, end, tags, Tag::new));
+        }
+        Set<Contract> contactContracts = getContracts(in, end);
+        checkEnd(in, end);
+        return new Contact(name, phone, nric, email, address, contactTags, contactContracts);
+    }
+
+    Policy decodePolicy(ByteBuffer in, int end) throws IllegalValueException {
+        PolicyName name = getShared(in, end, policyNames, PolicyName::new);
+        PolicyDetails details = new PolicyDetails(getString(in, end));
+        PolicyId id = getShared(in, end, policyIds, PolicyId::new);
+        Set<Contract> policyContracts = getContracts(in, end);
+        checkEnd(in, end);
+        return new Policy(name, details, id, policyContracts);
+    }
+
+    Appointment decodeAppointment(ByteBuffer in, int end) throws IllegalValueException {
+        AppointmentId aId = new AppointmentId(getString(in, end));
+        Nric nric = getShared(in, end, nrics, Nric::new);
+        LocalDate appDate = getDate(in, end);
+        AppointmentDetails details = new AppointmentDetails(getString(in, end));
+        checkEnd(in, end);
+        return new Appointment(aId, nric, appDate, details);
+    }
+
+    /**
+     * Checks that the entry ending at {@code end} has been read exactly.
+     */
+    private static void checkEnd(ByteBuffer in, int end) throws IllegalValueException {
+        if (in.position() != end) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+    }
+
+    private static int getInt(ByteBuffer in, int end) throws IllegalValueException {
+        if (end - in.position() < Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+        return in.getInt();
+    }
+
+    private static LocalDate getDate(ByteBuffer in, int end) throws IllegalValueException {
+        return LocalDate.ofEpochDay(getInt(in, end));
+    }
+
+    private static String getString(ByteBuffer in, int end) throws IllegalValueException {
+        int length = getInt(in, end);
+        if (length < 0 || length > end - in.position()) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+        return getBytes(in, length);
+    }
+
+    /**
+     * Returns the next {@code length} bytes of {@code in} decoded as UTF-8.
+     */
+    private static String getBytes(ByteBuffer in, int length) {
+        String string;
+        if (in.hasArray()) {
+            string = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return string;
+    }
+
+    /**
+     * Returns the model object for the shared string at the next index, creating it with {@code factory} the first
+     * time the string is referred to.
+     */
+    private <T> T getShared(ByteBuffer in, int end, T[] cache, Function<String, T> factory)
+            throws IllegalValueException {
+        int index = getInt(in, end);
+        if (index < 0 || index >= cache.length) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+        if (cache[index] == null) {
+            cache[index] = factory.apply(strings.get(index));
+        }
+        return cache[index];
+    }
+
+    private Set<Contract> getContracts(ByteBuffer in, int end) throws IllegalValueException {
+        Set<Contract> entryContracts = new HashSet<>();
+        for (int count = getInt(in, end); count > 0; count--) {
+            int index = getInt(in, end);
+            if (index < 0 || index >= contracts.size()) {
+                throw new IllegalValueException(MESSAGE_CORRUPT);
+            }
+            entryContracts.add(contracts.get(index));
+        }
+        return entryContracts;
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams JSON data files that may be gzip-compressed.
+ * A data file is written compressed when its name ends with {@code .gz}. When reading, compression is detected from
+ * the gzip magic number at the start of the file instead, so a file loads whatever it is named.
+ */
+class DataFileCompression {
+
+    public static final String COMPRESSED_FILE_SUFFIX = ".gz";
+    public static final int DEFAULT_LEVEL = Deflater.DEFAULT_COMPRESSION;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private DataFileCompression() {}
+
+    /**
+     * Returns true if a data file at {@code filePath} is to be written compressed.
+     */
+    static boolean isCompressedPath(Path filePath) {
+        return filePath.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(COMPRESSED_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns true if {@code level} is a valid compression level: {@link Deflater#DEFAULT_COMPRESSION}, or from
+     * {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}.
+     */
+    static boolean isValidLevel(int level) {
+        return level == Deflater.DEFAULT_COMPRESSION
+                || (level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION);
+    }
+
+    /**
+     * Returns a buffered stream over the JSON content of {@code channel}, decompressing it if it starts with the
+     * gzip magic number. Closing the stream closes {@code channel}.
+     */
+    static InputStream openForReading(ReadableByteChannel channel) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
+        if (!isGzip(in)) {
+            return in;
+        }
+        return new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+    }
+
+    /**
+     * Returns the stream to write the JSON content of a data file at {@code filePath} to: a stream that compresses
+     * into {@code out} at {@code level} if {@code filePath} names a compressed file, or {@code out} itself if not.
+     */
+    static OutputStream openForWriting(Path filePath, OutputStream out, int level) throws IOException {
+        return isCompressedPath(filePath) ? compress(out, level) : out;
+    }
+
+    /**
+     * Returns a stream that compresses what is written to it at {@code level} into {@code out}.
+     * Closing the stream writes the gzip trailer and closes {@code out}.
+     */
+    static OutputStream compress(OutputStream out, int level) throws IOException {
+        return new GZIPOutputStream(out, BUFFER_SIZE) {
+            {
+                def.setLevel(level);
+            }
+        };
+    }
+
+    private static boolean isGzip(BufferedInputStream in) throws IOException {
+        in.mark(2);
+        int magic = in.read() | (in.read() << 8);
+        in.reset();
+        return magic == GZIPInputStream.GZIP_MAGIC;
+    }
+}
@@ -0,0 +1,447 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.SaveDurability;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.policy.Policy;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes.
+ * Each save appends one record per added, edited or removed entry to the journal, which sits next to the snapshot
+ * with a {@code .journal} suffix. The snapshot is only rewritten, and the journal cleared, when the journal grows
+ * past a size threshold, when the last compaction is older than a time threshold, or when the changes cannot be
+ * expressed as records without reordering the lists. Reading replays the journal on top of the snapshot.
+ * An append that was cut short leaves an incomplete last line, which reading ignores and the next append cuts off.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 1024 * 1024;
+    public static final Duration DEFAULT_MAX_JOURNAL_AGE = Duration.ofMinutes(10);
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final int TAIL_BLOCK_SIZE = 4096;
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final SaveDurability durability;
+    private final long maxJournalBytes;
+    private final Duration maxJournalAge;
+
+    private final EntryLog<Contact> contacts = new EntryLog<>(Contact::getNric, Contact::equals,
+            c -> new Contact(c.getName(), c.getPhone(), c.getNric(), c.getEmail(), c.getAddress(), c.getTags(),
+                    c.getContracts()));
+    private final EntryLog<Policy> policies = new EntryLog<>(Policy::getId,
+            (p, q) -> p.equals(q) && p.getContracts().equals(q.getContracts()),
+            p -> new Policy(p.getName(), p.getDetails(), p.getId(), p.getContracts()));
+    private final EntryLog<Contract> contracts = new EntryLog<>(Contract::getIdentityKey, Contract::equals,
+            UnaryOperator.identity());
+    private final EntryLog<Appointment> appointments = new EntryLog<>(Appointment::getIdentityKey,
+            Appointment::equals, UnaryOperator.identity());
+
+    private boolean isInSyncWithFile = false;
+    private Instant lastCompaction = Instant.now();
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} with the default compaction thresholds, whose snapshot is
+     * written without indentation if {@code isCompact} is true.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, SaveDurability.NONE, DataFileCompression.DEFAULT_LEVEL);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} with the default compaction thresholds, whose snapshot is
+     * written without indentation if {@code isCompact} is true, and compressed at {@code compressionLevel} if
+     * {@code filePath} ends with {@code .gz}. Each snapshot and each journal append is forced to disk as far as
+     * {@code durability} asks.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isCompact, SaveDurability durability,
+                                       int compressionLevel) {
+        this(new JsonAddressBookStorage(filePath, isCompact, durability, compressionLevel), durability,
+                DEFAULT_MAX_JOURNAL_BYTES, DEFAULT_MAX_JOURNAL_AGE);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts the journal into the snapshot at {@code filePath}
+     * once it exceeds {@code maxJournalBytes} or the last compaction is older than {@code maxJournalAge}.
+     */
+    public JournaledAddressBookStorage(Path filePath, long maxJournalBytes, Duration maxJournalAge) {
+        this(new JsonAddressBookStorage(filePath), SaveDurability.NONE, maxJournalBytes, maxJournalAge);
+    }
+
+    private JournaledAddressBookStorage(JsonAddressBookStorage snapshotStorage, SaveDurability durability,
+                                        long maxJournalBytes, Duration maxJournalAge) {
+        requireNonNull(durability);
+        requireNonNull(maxJournalAge);
+        this.snapshotStorage = snapshotStorage;
+        this.durability = durability;
+        this.maxJournalBytes = maxJournalBytes;
+        this.maxJournalAge = maxJournalAge;
+    }
+
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return getJournalFilePath(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> addressBook = readSnapshotAndJournal(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            remember(addressBook.orElseGet(AddressBook::new));
+            isInSyncWithFile = addressBook.isPresent();
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any other location than this storage's data file writes a full snapshot there and discards any
+     * journal kept beside it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        boolean isOrderPreserved = contacts.diff(addressBook.getContactList(), JsonAdaptedJournalRecord::of, records)
+                & policies.diff(addressBook.getPolicyList(), JsonAdaptedJournalRecord::of, records)
+                & contracts.diff(addressBook.getContractList(), JsonAdaptedJournalRecord::of, records)
+                & appointments.diff(addressBook.getAppointmentList(), JsonAdaptedJournalRecord::of, records);
+
+        Path journalPath = getJournalFilePath();
+        if (isInSyncWithFile && !records.isEmpty()) {
+            appendToJournal(journalPath, records);
+        }
+
+        if (!isInSyncWithFile || !isOrderPreserved || isCompactionDue(journalPath)) {
+            compact(addressBook, journalPath);
+        }
+        if (isInSyncWithFile && isOrderPreserved) {
+            rememberChanges();
+        } else {
+            remember(addressBook);
+        }
+        isInSyncWithFile = true;
+    }
+
+    private Optional<ReadOnlyAddressBook> readSnapshotAndJournal(Path filePath) throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalPath = getJournalFilePath(filePath);
+        if (!Files.exists(journalPath)) {
+            return snapshot;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        try {
+            return Optional.of(replay(snapshot.orElseGet(AddressBook::new), lines));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    private boolean isCompactionDue(Path journalPath) throws IOException {
+        return Files.exists(journalPath) && (Files.size(journalPath) > maxJournalBytes
+                || Duration.between(lastCompaction, Instant.now()).compareTo(maxJournalAge) > 0);
+    }
+
+    /**
+     * Rewrites the snapshot with {@code addressBook} and then clears the journal.
+     * The journal is only cleared after the snapshot is written, and it already ends with the state in the snapshot,
+     * so replaying it after an interrupted compaction reproduces the same entries.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, Path journalPath) throws IOException {
+        logger.fine("Compacting journal into data file: " + getAddressBookFilePath());
+        snapshotStorage.saveAddressBook(addressBook);
+        if (Files.deleteIfExists(journalPath) && durability == SaveDurability.FSYNC_FILE_AND_DIR) {
+            FileUtil.forceDirectory(journalPath.toAbsolutePath().getParent());
+        }
+        lastCompaction = Instant.now();
+    }
+
+    /**
+     * Appends {@code records} to the journal, one line each, after cutting off any incomplete last line left by an
+     * append that was cut short. The journal is then forced to disk as far as the durability of this storage asks.
+     */
+    private void appendToJournal(Path journalPath, List<JsonAdaptedJournalRecord> records)
+            throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toJsonLine(record)).append('\n');
+        }
+
+        FileUtil.createParentDirsOfFile(journalPath);
+        boolean isNewJournal = !Files.exists(journalPath);
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long end = findEndOfLastLine(channel);
+            if (end < channel.size()) {
+                logger.warning("Cutting off incomplete last journal record in " + journalPath);
+                channel.truncate(end);
+            }
+            ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(lines));
+            long position = end;
+            while (bytes.hasRemaining()) {
+                position += channel.write(bytes, position);
+            }
+            if (durability != SaveDurability.NONE) {
+                channel.force(true);
+            }
+        }
+        if (isNewJournal && durability == SaveDurability.FSYNC_FILE_AND_DIR) {
+            FileUtil.forceDirectory(journalPath.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Returns the position just after the last line break in {@code channel}, or 0 if there is none.
+     */
+    private static long findEndOfLastLine(FileChannel channel) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(TAIL_BLOCK_SIZE);
+        long blockEnd = channel.size();
+        while (blockEnd > 0) {
+            long blockStart = Math.max(0, blockEnd - TAIL_BLOCK_SIZE);
+            block.clear().limit((int) (blockEnd - blockStart));
+            while (block.hasRemaining()) {
+                if (channel.read(block, blockStart + block.position()) < 0) {
+                    break;
+                }
+            }
+            for (int i = block.position() - 1; i >= 0; i--) {
+                if (block.get(i) == '\n') {
+                    return blockStart + i + 1;
+                }
+            }
+            blockEnd = blockStart;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the address book obtained by applying the journal {@code lines} in order to {@code snapshot}.
+     * A malformed last line is taken to be a write that was cut short and is ignored.
+     */
+    private static AddressBook replay(ReadOnlyAddressBook snapshot, List<String> lines)
+            throws IllegalValueException {
+        Map<Object, Contact> contactEntries = new LinkedHashMap<>();
+        Map<Object, Policy> policyEntries = new LinkedHashMap<>();
+        Map<Object, Contract> contractEntries = new LinkedHashMap<>();
+        Map<Object, Appointment> appointmentEntries = new LinkedHashMap<>();
+        snapshot.getContactList().forEach(c -> contactEntries.put(c.getNric(), c));
+        snapshot.getPolicyList().forEach(p -> policyEntries.put(p.getId(), p));
+        snapshot.getContractList().forEach(c -> contractEntries.put(c.getIdentityKey(), c));
+        snapshot.getAppointmentList().forEach(a -> appointmentEntries.put(a.getIdentityKey(), a));
+
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last journal record: " + e.getMessage());
+                    break;
+                }
+                throw new IllegalValueException("Journal record " + (i + 1) + " is not valid JSON.");
+            }
+
+            boolean isRemoval = record.isRemoval();
+            Object entry = record.toModelType();
+            if (entry instanceof Contact contact) {
+                apply(contactEntries, contact.getNric(), contact, isRemoval);
+            } else if (entry instanceof Policy policy) {
+                apply(policyEntries, policy.getId(), policy, isRemoval);
+            } else if (entry instanceof Contract contract) {
+                apply(contractEntries, contract.getIdentityKey(), contract, isRemoval);
+            } else if (entry instanceof Appointment appointment) {
+                apply(appointmentEntries, appointment.getIdentityKey(), appointment, isRemoval);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setContacts(new ArrayList<>(contactEntries.values()));
+        addressBook.setPolicies(new ArrayList<>(policyEntries.values()));
+        addressBook.setContracts(new ArrayList<>(contractEntries.values()));
+        addressBook.setAppointments(new ArrayList<>(appointmentEntries.values()));
+        return addressBook;
+    }
+
+    private static <T> void apply(Map<Object, T> entries, Object key, T entry, boolean isRemoval) {
+        if (isRemoval) {
+            entries.remove(key);
+        } else {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Records {@code addressBook} as the state currently held in the file.
+     */
+    private void remember(ReadOnlyAddressBook addressBook) {
+        contacts.remember(addressBook.getContactList());
+        policies.remember(addressBook.getPolicyList());
+        contracts.remember(addressBook.getContractList());
+        appointments.remember(addressBook.getAppointmentList());
+    }
+
+    /**
+     * Records the changes found by the last diff as saved, copying only the entries that changed.
+     */
+    private void rememberChanges() {
+        contacts.rememberChanges();
+        policies.rememberChanges();
+        contracts.rememberChanges();
+        appointments.rememberChanges();
+    }
+
+    /**
+     * The last saved entries of one list, keyed by identity in list order.
+     */
+    private static class EntryLog<T> {
+        private final Function<T, Object> keyOf;
+        private final BiPredicate<T, T> isSameState;
+        private final UnaryOperator<T> copyOf;
+        private final Map<Object, T> savedEntries = new LinkedHashMap<>();
+        private final List<T> changedEntries = new ArrayList<>();
+        private final List<Object> removedKeys = new ArrayList<>();
+
+        EntryLog(Function<T, Object> keyOf, BiPredicate<T, T> isSameState, UnaryOperator<T> copyOf) {
+            this.keyOf = keyOf;
+            this.isSameState = isSameState;
+            this.copyOf = copyOf;
+        }
+
+        /**
+         * Adds to {@code records} the records that turn the saved entries into {@code current}.
+         * Returns false if replaying those records would not reproduce the order of {@code current}.
+         */
+        boolean diff(List<T> current, BiFunction<String, T, JsonAdaptedJournalRecord> toRecord,
+                     List<JsonAdaptedJournalRecord> records) {
+            changedEntries.clear();
+            removedKeys.clear();
+            List<Object> currentKeys = new ArrayList<>(current.size());
+            Set<Object> currentKeySet = new HashSet<>();
+            List<Object> appendedKeys = new ArrayList<>();
+            for (T entry : current) {
+                Object key = keyOf.apply(entry);
+                currentKeys.add(key);
+                currentKeySet.add(key);
+
+                T saved = savedEntries.get(key);
+                if (saved == null) {
+                    appendedKeys.add(key);
+                }
+                if (saved == null || !isSameState.test(saved, entry)) {
+                    changedEntries.add(entry);
+                    records.add(toRecord.apply(JsonAdaptedJournalRecord.OP_PUT, entry));
+                }
+            }
+
+            List<Object> replayedKeys = new ArrayList<>(current.size());
+            for (Map.Entry<Object, T> saved : savedEntries.entrySet()) {
+                if (currentKeySet.contains(saved.getKey())) {
+                    replayedKeys.add(saved.getKey());
+                } else {
+                    removedKeys.add(saved.getKey());
+                    records.add(toRecord.apply(JsonAdaptedJournalRecord.OP_REMOVE, saved.getValue()));
+                }
+            }
+            replayedKeys.addAll(appendedKeys);
+            return replayedKeys.equals(currentKeys);
+        }
+
+        void remember(List<T> current) {
+            savedEntries.clear();
+            current.forEach(entry -> savedEntries.put(keyOf.apply(entry), copyOf.apply(entry)));
+        }
+
+        /**
+         * Applies the changes found by the last {@link #diff} to the saved entries. Added entries go to the end, so
+         * the saved entries are only in the order of the current list if that diff found the order preserved.
+         */
+        void rememberChanges() {
+            removedKeys.forEach(savedEntries::remove);
+            changedEntries.forEach(entry -> savedEntries.put(keyOf.apply(entry), copyOf.apply(entry)));
+        }
+    }
+}
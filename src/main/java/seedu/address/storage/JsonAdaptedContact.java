@@ -1,14 +1,21 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.contact.Address;
 import seedu.address.model.contact.Contact;
@@ -25,6 +32,10 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedContact {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Contact's %s field is missing!";
+    public static final String UNRESOLVED_CONTRACTS_MESSAGE =
+            "Contact refers to contracts by id, but no contracts were given to resolve them!";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedContact.class);
 
     private final String name;
     private final String phone;
@@ -32,17 +43,31 @@ class JsonAdaptedContact {
     private final String email;
     private final String address;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedContract> contracts = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<String> contractIds = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedContact} with the given contact details and embedded contracts.
+     */
+    public JsonAdaptedContact(String name, String phone, String nric, String email, String address,
+                              List<JsonAdaptedTag> tags, List<JsonAdaptedContract> contracts) {
+        this(name, phone, nric, email, address, tags, contracts, null);
+    }
 
     //@@author porcupinezzz
     /**
      * Constructs a {@code JsonAdaptedContact} with the given contact details.
+     * Contracts are either embedded in {@code contracts}, as in version 1 files, or referred to by id in
+     * {@code contractIds}, as in version 2 files.
      */
     @JsonCreator
     public JsonAdaptedContact(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
                               @JsonProperty("nric") String nric, @JsonProperty("email") String email,
                               @JsonProperty("address") String address, @JsonProperty("tags") List<JsonAdaptedTag> tags,
-                              @JsonProperty("contracts") List<JsonAdaptedContract> contracts) {
+                              @JsonProperty("contracts") List<JsonAdaptedContract> contracts,
+                              @JsonProperty("contractIds") List<String> contractIds) {
         this.name = name;
         this.phone = phone;
         this.nric = nric;
@@ -54,13 +79,21 @@ class JsonAdaptedContact {
         if (contracts != null) {
             this.contracts.addAll(contracts);
         }
+        if (contractIds != null) {
+            this.contractIds.addAll(contractIds);
+        }
     }
     //@@author
 
     /**
      * Converts a given {@code Contact} into this class for Jackson use.
+     * The contact's contracts are referred to by id.
      */
     public JsonAdaptedContact(Contact source) {
+        this(source, false);
+    }
+
+    private JsonAdaptedContact(Contact source, boolean isEmbeddingContracts) {
         name = source.getName().fullName;
         phone = source.getPhone().value;
         nric = source.getNric().nric;
@@ -69,17 +102,74 @@ class JsonAdaptedContact {
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        contracts.addAll(source.getContracts().stream()
-                .map(JsonAdaptedContract::new)
-                .collect(Collectors.toList()));
+        if (isEmbeddingContracts) {
+            contracts.addAll(source.getContracts().stream()
+                    .map(JsonAdaptedContract::new)
+                    .collect(Collectors.toList()));
+        } else {
+            contractIds.addAll(source.getContracts().stream()
+                    .map(contract -> contract.getCId().toString())
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Converts a given {@code Contact} into this class with its contracts embedded in full, so that the result can be
+     * converted back without a contract table.
+     */
+    public static JsonAdaptedContact embeddingContracts(Contact source) {
+        return new JsonAdaptedContact(source, true);
+    }
+
+    /**
+     * Returns true if this refers to contracts by id, which need a contract table to be resolved.
+     */
+    boolean hasContractIds() {
+        return !contractIds.isEmpty();
     }
 
     /**
      * Converts this Jackson-friendly adapted contact object into the model's {@code Contact} object.
+     * Only embedded contracts can be converted this way; use {@link #toModelType(Map)} if this refers to contracts
+     * by id.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted contact.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted contact, or if it
+     *     refers to contracts by id.
      */
     public Contact toModelType() throws IllegalValueException {
+        if (hasContractIds()) {
+            throw new IllegalValueException(UNRESOLVED_CONTRACTS_MESSAGE);
+        }
+        return convert(Collections.emptyMap());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted contact object into the model's {@code Contact} object, leaving out any
+     * contracts referred to by id. Embedded contracts are kept.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted contact.
+     */
+    public Contact toModelTypeDroppingContractIds() throws IllegalValueException {
+        return convert(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted contact object into the model's {@code Contact} object.
+     * Contract ids are resolved to the contracts in {@code contractsById} that belong to this contact.
+     * Ids with no such contract are logged and dropped.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted contact.
+     */
+    public Contact toModelType(Map<String, List<Contract>> contractsById) throws IllegalValueException {
+        requireNonNull(contractsById);
+        return convert(contractsById);
+    }
+
+    /**
+     * Converts this into the model's {@code Contact} object, resolving contract ids against {@code contractsById}, or
+     * leaving them out if {@code contractsById} is null.
+     */
+    private Contact convert(Map<String, List<Contract>> contractsById) throws IllegalValueException {
         final List<Tag> contactTags = new ArrayList<>();
         final List<Contract> contactContracts = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
@@ -134,6 +224,17 @@ class JsonAdaptedContact {
         }
 
         final Set<Tag> modelTags = new HashSet<>(contactTags);
+        final List<String> idsToResolve = contractsById == null ? Collections.emptyList() : contractIds;
+        for (String contractId : idsToResolve) {
+            List<Contract> resolved = contractsById.getOrDefault(contractId, Collections.emptyList()).stream()
+                    .filter(contract -> contract.getNric().equals(modelNric))
+                    .toList();
+            if (resolved.isEmpty()) {
+                logger.warning("Dropping contract " + contractId + " of contact " + modelNric
+                        + ", which is not in the contracts list.");
+            }
+            contactContracts.addAll(resolved);
+        }
         final Set<Contract> modelContracts = new HashSet<>(contactContracts);
         return new Contact(modelName, modelPhone, modelNric, modelEmail, modelAddress, modelTags, modelContracts);
     }
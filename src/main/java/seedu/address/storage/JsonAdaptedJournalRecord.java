@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.policy.Policy;
+
+/**
+ * Jackson-friendly version of a single change recorded in the address book journal.
+ * A record either puts an entry, replacing any entry with the same identity, or removes the entry with the same
+ * identity. Exactly one of the entry fields is set.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String OP_PUT = "put";
+    public static final String OP_REMOVE = "remove";
+    public static final String INVALID_OP_MESSAGE = "Journal record has an unknown operation!";
+    public static final String MISSING_ENTRY_MESSAGE = "Journal record must hold exactly one entry!";
+
+    private final String op;
+    private final JsonAdaptedContact contact;
+    private final JsonAdaptedPolicy policy;
+    private final JsonAdaptedContract contract;
+    private final JsonAdaptedAppointment appointment;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op,
+                                    @JsonProperty("contact") JsonAdaptedContact contact,
+                                    @JsonProperty("policy") JsonAdaptedPolicy policy,
+                                    @JsonProperty("contract") JsonAdaptedContract contract,
+                                    @JsonProperty("appointment") JsonAdaptedAppointment appointment) {
+        this.op = op;
+        this.contact = contact;
+        this.policy = policy;
+        this.contract = contract;
+        this.appointment = appointment;
+    }
+
+    public static JsonAdaptedJournalRecord of(String op, Contact contact) {
+        return new JsonAdaptedJournalRecord(op, JsonAdaptedContact.embeddingContracts(contact), null, null, null);
+    }
+
+    public static JsonAdaptedJournalRecord of(String op, Policy policy) {
+        return new JsonAdaptedJournalRecord(op, null, JsonAdaptedPolicy.embeddingContracts(policy), null, null);
+    }
+
+    public static JsonAdaptedJournalRecord of(String op, Contract contract) {
+        return new JsonAdaptedJournalRecord(op, null, null, new JsonAdaptedContract(contract), null);
+    }
+
+    public static JsonAdaptedJournalRecord of(String op, Appointment appointment) {
+        return new JsonAdaptedJournalRecord(op, null, null, null, new JsonAdaptedAppointment(appointment));
+    }
+
+    /**
+     * Returns true if this record removes its entry, false if it puts it.
+     *
+     * @throws IllegalValueException if the operation is not recognised.
+     */
+    public boolean isRemoval() throws IllegalValueException {
+        if (OP_REMOVE.equals(op)) {
+            return true;
+        }
+        if (OP_PUT.equals(op)) {
+            return false;
+        }
+        throw new IllegalValueException(INVALID_OP_MESSAGE);
+    }
+
+    /**
+     * Converts the entry held by this record into the model's {@code Contact}, {@code Policy}, {@code Contract}
+     * or {@code Appointment} object.
+     *
+     * @throws IllegalValueException if the record does not hold exactly one entry or the entry is invalid.
+     */
+    public Object toModelType() throws IllegalValueException {
+        int entries = (contact == null ? 0 : 1) + (policy == null ? 0 : 1) + (contract == null ? 0 : 1)
+                + (appointment == null ? 0 : 1);
+        if (entries != 1) {
+            throw new IllegalValueException(MISSING_ENTRY_MESSAGE);
+        }
+
+        if (contact != null) {
+            return contact.toModelType();
+        } else if (policy != null) {
+            return policy.toModelType();
+        } else if (contract != null) {
+            return contract.toModelType();
+        } else {
+            return appointment.toModelType();
+        }
+    }
+}
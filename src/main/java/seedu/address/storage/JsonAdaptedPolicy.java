@@ -1,14 +1,21 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.contract.Contract;
 import seedu.address.model.policy.Policy;
@@ -22,46 +29,128 @@ import seedu.address.model.policy.PolicyName;
 class JsonAdaptedPolicy {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Policy's %s field is missing!";
+    public static final String UNRESOLVED_CONTRACTS_MESSAGE =
+            "Policy refers to contracts by id, but no contracts were given to resolve them!";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedPolicy.class);
 
     private final String name;
     private final String details;
     private final String id;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedContract> contracts = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<String> contractIds = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedPolicy} with the given policy details and embedded contracts.
+     */
+    public JsonAdaptedPolicy(String name, String details, String id, List<JsonAdaptedContract> contracts) {
+        this(name, details, id, contracts, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedPolicy} with the given policy details.
+     * Contracts are either embedded in {@code contracts}, as in version 1 files, or referred to by id in
+     * {@code contractIds}, as in version 2 files.
      */
     @JsonCreator
     public JsonAdaptedPolicy(@JsonProperty("name") String name,
                              @JsonProperty("details") String details,
                              @JsonProperty("id") String id,
-                             @JsonProperty("contracts") List<JsonAdaptedContract> contracts) {
+                             @JsonProperty("contracts") List<JsonAdaptedContract> contracts,
+                             @JsonProperty("contractIds") List<String> contractIds) {
         this.name = name;
         this.details = details;
         this.id = id;
         if (contracts != null) {
             this.contracts.addAll(contracts);
         }
+        if (contractIds != null) {
+            this.contractIds.addAll(contractIds);
+        }
     }
 
     /**
      * Converts a given {@code Policy} into this class for Jackson use.
+     * The policy's contracts are referred to by id.
      */
     public JsonAdaptedPolicy(Policy source) {
+        this(source, false);
+    }
+
+    private JsonAdaptedPolicy(Policy source, boolean isEmbeddingContracts) {
         name = source.getName().value;
         details = source.getDetails().value;
         id = source.getId().value;
-        contracts.addAll(source.getContracts().stream()
-                .map(JsonAdaptedContract::new)
-                .collect(Collectors.toList()));
+        if (isEmbeddingContracts) {
+            contracts.addAll(source.getContracts().stream()
+                    .map(JsonAdaptedContract::new)
+                    .collect(Collectors.toList()));
+        } else {
+            contractIds.addAll(source.getContracts().stream()
+                    .map(contract -> contract.getCId().toString())
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Converts a given {@code Policy} into this class with its contracts embedded in full, so that the result can be
+     * converted back without a contract table.
+     */
+    public static JsonAdaptedPolicy embeddingContracts(Policy source) {
+        return new JsonAdaptedPolicy(source, true);
+    }
+
+    /**
+     * Returns true if this refers to contracts by id, which need a contract table to be resolved.
+     */
+    boolean hasContractIds() {
+        return !contractIds.isEmpty();
     }
 
     /**
      * Converts this Jackson-friendly adapted policy object into the model's {@code Policy} object.
+     * Only embedded contracts can be converted this way; use {@link #toModelType(Map)} if this refers to contracts
+     * by id.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted policy.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted policy, or if it
+     *     refers to contracts by id.
      */
     public Policy toModelType() throws IllegalValueException {
+        if (hasContractIds()) {
+            throw new IllegalValueException(UNRESOLVED_CONTRACTS_MESSAGE);
+        }
+        return convert(Collections.emptyMap());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted policy object into the model's {@code Policy} object, leaving out any
+     * contracts referred to by id. Embedded contracts are kept.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted policy.
+     */
+    public Policy toModelTypeDroppingContractIds() throws IllegalValueException {
+        return convert(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted policy object into the model's {@code Policy} object.
+     * Contract ids are resolved to the contracts in {@code contractsById} that are under this policy.
+     * Ids with no such contract are logged and dropped.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted policy.
+     */
+    public Policy toModelType(Map<String, List<Contract>> contractsById) throws IllegalValueException {
+        requireNonNull(contractsById);
+        return convert(contractsById);
+    }
+
+    /**
+     * Converts this into the model's {@code Policy} object, resolving contract ids against {@code contractsById}, or
+     * leaving them out if {@code contractsById} is null.
+     */
+    private Policy convert(Map<String, List<Contract>> contractsById) throws IllegalValueException {
         final List<Contract> policyContracts = new ArrayList<>();
         for (JsonAdaptedContract contract : contracts) {
             policyContracts.add(contract.toModelType());
@@ -93,6 +182,17 @@ class JsonAdaptedPolicy {
         }
         final PolicyId modelPolicyId = new PolicyId(id);
 
+        final List<String> idsToResolve = contractsById == null ? Collections.emptyList() : contractIds;
+        for (String contractId : idsToResolve) {
+            List<Contract> resolved = contractsById.getOrDefault(contractId, Collections.emptyList()).stream()
+                    .filter(contract -> contract.getPId().equals(modelPolicyId))
+                    .toList();
+            if (resolved.isEmpty()) {
+                logger.warning("Dropping contract " + contractId + " of policy " + modelPolicyId
+                        + ", which is not in the contracts list.");
+            }
+            policyContracts.addAll(resolved);
+        }
         final Set<Contract> modelContracts = new HashSet<>(policyContracts);
         return new Policy(modelPolicyName, modelPolicyDetails, modelPolicyId, modelContracts);
     }
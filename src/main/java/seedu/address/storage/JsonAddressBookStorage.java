@@ -1,36 +1,99 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.SaveDurability;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * A data file whose name ends with {@code .gz} is gzip-compressed. A compressed file is recognised by its content
+ * when read, whatever its name.
+ * A SHA-256 hash of the uncompressed content last written to the data file is kept, computed as the content is
+ * streamed out. A save whose content hashes the same is discarded before the data file is replaced or anything is
+ * forced to disk.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final SaveDurability durability;
+    private final int compressionLevel;
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong skippedWriteCount = new AtomicLong();
+    private byte[] lastWrittenHash;
+    private byte[] latestContentHash;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for {@code filePath} that writes without indentation if
+     * {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, SaveDurability.NONE);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for {@code filePath} that writes without indentation if
+     * {@code isCompact} is true, and forces each save to disk as far as {@code durability} asks.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, SaveDurability durability) {
+        this(filePath, isCompact, durability, DataFileCompression.DEFAULT_LEVEL);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for {@code filePath} that writes without indentation if
+     * {@code isCompact} is true, forces each save to disk as far as {@code durability} asks, and compresses at
+     * {@code compressionLevel} if {@code filePath} ends with {@code .gz}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, SaveDurability durability,
+                                  int compressionLevel) {
+        requireNonNull(durability);
+        checkArgument(DataFileCompression.isValidLevel(compressionLevel));
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.durability = durability;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the number of saves that replaced the data file.
+     */
+    public long getWriteCount() {
+        return writeCount.get();
+    }
+
+    /**
+     * Returns the number of saves that were skipped because the data file already held the same content.
+     */
+    public long getSkippedWriteCount() {
+        return skippedWriteCount.get();
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -38,6 +101,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is read in a single streaming pass; see {@link JsonAddressBookStreamReader}.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,18 +109,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        }
+        return JsonAddressBookStreamReader.readAddressBook(filePath);
     }
 
     @Override
@@ -66,6 +119,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is written in a single streaming pass to a temporary file, which then atomically replaces the data
+     * file; see {@link JsonAddressBookStreamWriter}.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +128,42 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        if (!filePath.equals(this.filePath)) {
+            JsonAddressBookStreamWriter.writeAddressBook(addressBook, filePath, isCompact, durability,
+                    compressionLevel);
+            return;
+        }
+
+        MessageDigest digest = newContentDigest();
+        boolean isWritten = FileUtil.writeAtomically(filePath, out -> JsonAddressBookStreamWriter.writeAddressBook(
+                addressBook, new DigestOutputStream(DataFileCompression.openForWriting(filePath, out, compressionLevel),
+                        digest), isCompact), durability, () -> isNewContent(digest));
+        lastWrittenHash = latestContentHash;
+
+        if (isWritten) {
+            writeCount.incrementAndGet();
+        } else {
+            skippedWriteCount.incrementAndGet();
+            logger.fine("Data file content unchanged, skipped write (" + skippedWriteCount.get() + " skipped, "
+                    + writeCount.get() + " written)");
+        }
+    }
+
+    /**
+     * Returns true if the content hashed by {@code digest} differs from the content of the data file.
+     */
+    private boolean isNewContent(MessageDigest digest) {
+        latestContentHash = digest.digest();
+        return !Arrays.equals(latestContentHash, lastWrittenHash) || !Files.exists(filePath);
+    }
+
+    private static MessageDigest newContentDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new AssertionError(e);
+        }
     }
 
 }
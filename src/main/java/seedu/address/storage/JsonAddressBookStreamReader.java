@@ -0,0 +1,247 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.policy.Policy;
+
+/**
+ * Reads an address book JSON file, which may be gzip-compressed, in a single streaming pass.
+ * Contacts, policies, contracts and appointments are converted to their model types in batches as they are parsed,
+ * so neither the file's text nor a {@link JsonSerializableAddressBook} for the whole file is held in memory, and
+ * each batch is converted in parallel; see {@link ParallelConversion}.
+ * Contacts and policies that refer to contracts by id are held back only if they appear before the contracts list,
+ * which files written by this version never do.
+ */
+class JsonAddressBookStreamReader {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStreamReader.class);
+    private static final int BATCH_SIZE = 4096;
+
+    private final List<Contact> contactList = new ArrayList<>();
+    private final List<Policy> policyList = new ArrayList<>();
+    private final List<Contract> contractList = new ArrayList<>();
+    private final List<Appointment> appointmentList = new ArrayList<>();
+    private final Map<String, List<Contract>> contractsById = new HashMap<>();
+    private final List<JsonAdaptedContact> deferredContacts = new ArrayList<>();
+    private final List<JsonAdaptedPolicy> deferredPolicies = new ArrayList<>();
+    private boolean hasReadContracts = false;
+
+    private JsonAddressBookStreamReader() {}
+
+    /**
+     * Returns the address book stored in {@code filePath}, or {@code Optional.empty()} if the file does not exist.
+     *
+     * @throws DataLoadingException if the file cannot be read or holds invalid data.
+     */
+    static Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = JsonUtil.createParser(
+                DataFileCompression.openForReading(FileChannel.open(filePath)))) {
+            return Optional.of(new JsonAddressBookStreamReader().read(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException("Expected an address book object", parser.getCurrentLocation());
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case "version":
+                JsonSerializableAddressBook.checkVersion(parser.getIntValue());
+                break;
+            case "contracts":
+                readContracts(parser);
+                break;
+            case "contacts":
+                readContacts(parser);
+                break;
+            case "policies":
+                readPolicies(parser);
+                break;
+            case "appointments":
+                readAppointments(parser);
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+
+        contactList.addAll(ParallelConversion.convertAll(deferredContacts,
+                contact -> contact.toModelType(contractsById)));
+        policyList.addAll(ParallelConversion.convertAll(deferredPolicies,
+                policy -> policy.toModelType(contractsById)));
+        return JsonSerializableAddressBook.toAddressBook(contactList, policyList, contractList, appointmentList);
+    }
+
+    private void readContracts(JsonParser parser) throws IOException, IllegalValueException {
+        hasReadContracts = true;
+        if (!startArray(parser)) {
+            return;
+        }
+        Batch<JsonAdaptedContract, Contract> batch = new Batch<>(JsonAdaptedContract::toModelType, contract -> {
+            contractList.add(contract);
+            JsonSerializableAddressBook.addToContractTable(contractsById, contract);
+        });
+        while (nextElement(parser)) {
+            batch.add(parser.readValueAs(JsonAdaptedContract.class));
+        }
+        batch.flush();
+    }
+
+    private void readContacts(JsonParser parser) throws IOException, IllegalValueException {
+        if (!startArray(parser)) {
+            return;
+        }
+        Batch<JsonAdaptedContact, Contact> batch = new Batch<>(contact -> contact.toModelType(contractsById),
+                contactList::add);
+        while (nextElement(parser)) {
+            JsonAdaptedContact contact = parser.readValueAs(JsonAdaptedContact.class);
+            if (mustDefer(contact.hasContractIds(), deferredContacts)) {
+                deferredContacts.add(contact);
+            } else {
+                batch.add(contact);
+            }
+        }
+        batch.flush();
+    }
+
+    private void readPolicies(JsonParser parser) throws IOException, IllegalValueException {
+        if (!startArray(parser)) {
+            return;
+        }
+        Batch<JsonAdaptedPolicy, Policy> batch = new Batch<>(policy -> policy.toModelType(contractsById),
+                policyList::add);
+        while (nextElement(parser)) {
+            JsonAdaptedPolicy policy = parser.readValueAs(JsonAdaptedPolicy.class);
+            if (mustDefer(policy.hasContractIds(), deferredPolicies)) {
+                deferredPolicies.add(policy);
+            } else {
+                batch.add(policy);
+            }
+        }
+        batch.flush();
+    }
+
+    private void readAppointments(JsonParser parser) throws IOException, IllegalValueException {
+        if (!startArray(parser)) {
+            return;
+        }
+        Batch<JsonAdaptedAppointment, Appointment> batch = new Batch<>(JsonAdaptedAppointment::toModelType,
+                appointmentList::add);
+        while (nextElement(parser)) {
+            batch.add(parser.readValueAs(JsonAdaptedAppointment.class));
+        }
+        batch.flush();
+    }
+
+    /**
+     * Returns true if an entry must wait for the contracts list before it can be converted. Once one entry of a list
+     * has been held back, the rest of that list is held back too so that the list keeps its order.
+     */
+    private boolean mustDefer(boolean hasContractIds, List<?> deferred) {
+        return !hasReadContracts && (hasContractIds || !deferred.isEmpty());
+    }
+
+    /**
+     * Checks that {@code parser} is at the start of an array. A null value is read as an empty array.
+     *
+     * @return true if there is an array to read.
+     */
+    static boolean startArray(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException("Expected an array", parser.getCurrentLocation());
+        }
+        return true;
+    }
+
+    /**
+     * Advances {@code parser} to the start of the next object in the array it is in, or to the end of the array.
+     *
+     * @return true if there is another object.
+     */
+    static boolean nextElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException("Expected an object", parser.getCurrentLocation());
+        }
+        return true;
+    }
+
+    /**
+     * Parsed entries waiting to be converted. Entries are converted a batch at a time, so that conversion can use
+     * every core while only one batch of parsed entries is held in memory.
+     */
+    private static class Batch<S, T> {
+        private final List<S> pending = new ArrayList<>(BATCH_SIZE);
+        private final ParallelConversion.Conversion<S, T> conversion;
+        private final Consumer<T> sink;
+
+        Batch(ParallelConversion.Conversion<S, T> conversion, Consumer<T> sink) {
+            this.conversion = conversion;
+            this.sink = sink;
+        }
+
+        void add(S entry) throws IllegalValueException {
+            pending.add(entry);
+            if (pending.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * Converts the pending entries and passes them to the sink in order.
+         */
+        void flush() throws IllegalValueException {
+            ParallelConversion.convertAll(pending, conversion).forEach(sink);
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.SaveDurability;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.policy.Policy;
+
+/**
+ * Writes an address book JSON file in a single streaming pass, gzip-compressed if the file name ends with
+ * {@code .gz}.
+ * Entries are adapted and written one at a time through a buffered stream, so neither a
+ * {@link JsonSerializableAddressBook} for the whole address book nor the file's text is built in memory.
+ * The output has the same layout as a serialized {@code JsonSerializableAddressBook}.
+ */
+class JsonAddressBookStreamWriter {
+
+    private JsonAddressBookStreamWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} at the default compression level.
+     *
+     * @see #writeAddressBook(ReadOnlyAddressBook, Path, boolean, SaveDurability, int)
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact,
+                                 SaveDurability durability) throws IOException {
+        writeAddressBook(addressBook, filePath, isCompact, durability, DataFileCompression.DEFAULT_LEVEL);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, atomically replacing any existing file.
+     *
+     * @param isCompact if true, the file is written without indentation or line breaks.
+     * @param durability what is forced to disk before returning; see {@link FileUtil#writeAtomically}.
+     * @param compressionLevel the gzip level to compress at, if {@code filePath} ends with {@code .gz}.
+     * @throws IOException if there was an error writing to the file, in which case the existing file is unchanged.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact,
+                                 SaveDurability durability, int compressionLevel) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        requireNonNull(durability);
+
+        FileUtil.writeAtomically(filePath, out -> writeAddressBook(addressBook,
+                DataFileCompression.openForWriting(filePath, out, compressionLevel), isCompact), durability);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} and closes it.
+     *
+     * @param isCompact if true, the output has no indentation or line breaks.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out, boolean isCompact)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(new BufferedOutputStream(out), isCompact)) {
+            generator.writeStartObject();
+            generator.writeNumberField("version", JsonSerializableAddressBook.CURRENT_VERSION);
+
+            generator.writeArrayFieldStart("contracts");
+            for (Contract contract : addressBook.getContractList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedContract(contract));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("contacts");
+            for (Contact contact : addressBook.getContactList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedContact(contact));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("policies");
+            for (Policy policy : addressBook.getPolicyList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPolicy(policy));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("appointments");
+            for (Appointment appointment : addressBook.getAppointmentList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedAppointment(appointment));
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+}
@@ -1,31 +1,49 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.exceptions.DuplicateContactException;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.exceptions.DuplicateContractException;
 import seedu.address.model.policy.Policy;
+import seedu.address.model.policy.exceptions.DuplicatePolicyException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * Version 1 files embed a full copy of each contract in its contact and its policy. Version 2 files keep contracts
+ * only in the top-level contracts list, and contacts and policies refer to them by id. Both versions can be read;
+ * files are always written as the current version, with the contracts list ahead of the contacts and policies that
+ * refer to it so that the file can be read in a single pass.
  */
 @JsonRootName(value = "addressbook")
+@JsonPropertyOrder({"version", "contracts", "contacts", "policies", "appointments"})
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_CONTACT = "Contacts list contains duplicate contact(s).";
     public static final String MESSAGE_DUPLICATE_POLICY = "Policies list contains duplicate policy(s).";
     public static final String MESSAGE_DUPLICATE_CONTRACT = "Contracts list contains duplicate contract(s).";
     public static final String MESSAGE_DUPLICATE_APPOINTMENT = "Appointments list contains duplicate appointment(s).";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Address book file version %d is not supported.";
+
+    public static final int CURRENT_VERSION = 2;
+    private static final int EMBEDDED_CONTRACTS_VERSION = 1;
+
+    private final int version;
 
     private final List<JsonAdaptedContact> contacts = new ArrayList<>();
     private final List<JsonAdaptedPolicy> policies = new ArrayList<>();
@@ -34,12 +52,15 @@ class JsonSerializableAddressBook {
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given contacts.
+     * A missing {@code version} is taken to be version 1, which predates the field.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("contacts") List<JsonAdaptedContact> contacts,
+    public JsonSerializableAddressBook(@JsonProperty("version") Integer version,
+                                       @JsonProperty("contacts") List<JsonAdaptedContact> contacts,
                                        @JsonProperty("policies") List<JsonAdaptedPolicy> policies,
                                        @JsonProperty("contracts") List<JsonAdaptedContract> contracts,
                                        @JsonProperty("appointments") List<JsonAdaptedAppointment> appointments) {
+        this.version = version == null ? EMBEDDED_CONTRACTS_VERSION : version;
         if (contacts != null) {
             this.contacts.addAll(contacts);
         }
@@ -61,6 +82,7 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        version = CURRENT_VERSION;
         contacts.addAll(source.getContactList().stream().map(JsonAdaptedContact::new).collect(Collectors.toList()));
         policies.addAll(source.getPolicyList().stream().map(JsonAdaptedPolicy::new).collect(Collectors.toList()));
         contracts.addAll(source.getContractList().stream().map(JsonAdaptedContract::new).collect(Collectors.toList()));
@@ -71,76 +93,68 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Every entry is converted first, with large lists converted in parallel, and the converted lists are then
+     * installed in one bulk load.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        convertContacts(addressBook);
-        convertPolicies(addressBook);
-        convertContracts(addressBook);
-        convertAppointments(addressBook);
-        return addressBook;
-    }
+        checkVersion(version);
 
-    /**
-     * Converts and adds contacts to the address book.
-     *
-     * @throws IllegalValueException if there were any data constraints violated.
-     */
-    private void convertContacts(AddressBook addressBook) throws IllegalValueException {
-        for (JsonAdaptedContact jsonAdaptedContact : contacts) {
-            Contact contact = jsonAdaptedContact.toModelType();
-            if (addressBook.hasContact(contact)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CONTACT);
-            }
-            addressBook.addContact(contact);
+        List<Contract> contractList = ParallelConversion.convertAll(contracts, JsonAdaptedContract::toModelType);
+        Map<String, List<Contract>> contractsById = new HashMap<>();
+        for (Contract contract : contractList) {
+            addToContractTable(contractsById, contract);
         }
+        List<Contact> contactList = ParallelConversion.convertAll(contacts,
+                contact -> contact.toModelType(contractsById));
+        List<Policy> policyList = ParallelConversion.convertAll(policies,
+                policy -> policy.toModelType(contractsById));
+        List<Appointment> appointmentList = ParallelConversion.convertAll(appointments,
+                JsonAdaptedAppointment::toModelType);
+
+        return toAddressBook(contactList, policyList, contractList, appointmentList);
     }
 
     /**
-     * Converts and adds policies to the address book.
+     * Throws if files of the given {@code version} cannot be read.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if {@code version} is not supported.
      */
-    private void convertPolicies(AddressBook addressBook) throws IllegalValueException {
-        for (JsonAdaptedPolicy jsonAdaptedPolicy : policies) {
-            Policy policy = jsonAdaptedPolicy.toModelType();
-            if (addressBook.hasSamePolicyId(policy)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_POLICY);
-            }
-            addressBook.addPolicy(policy);
+    static void checkVersion(int version) throws IllegalValueException {
+        if (version < EMBEDDED_CONTRACTS_VERSION || version > CURRENT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
         }
     }
 
     /**
-     * Converts and adds contracts to the address book.
-     *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * Adds {@code contract} to {@code contractsById}, the table that contract ids in contacts and policies are
+     * resolved against.
      */
-    private void convertContracts(AddressBook addressBook) throws IllegalValueException {
-        for (JsonAdaptedContract jsonAdaptedContract : contracts) {
-            Contract contract = jsonAdaptedContract.toModelType();
-            if (addressBook.hasContract(contract)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CONTRACT);
-            }
-            addressBook.addContract(contract);
-        }
+    static void addToContractTable(Map<String, List<Contract>> contractsById, Contract contract) {
+        contractsById.computeIfAbsent(contract.getCId().toString(), unused -> new ArrayList<>(1)).add(contract);
     }
 
     /**
-     * Converts and adds appointments to the address book.
+     * Returns an {@code AddressBook} holding the given converted entries.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if any of the lists contains duplicates.
      */
-    private void convertAppointments(AddressBook addressBook) throws IllegalValueException {
-        for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
-            Appointment appointment = jsonAdaptedAppointment.toModelType();
-            if (addressBook.hasAppointment(appointment)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT);
-            }
-            addressBook.addAppointment(appointment);
+    static AddressBook toAddressBook(List<Contact> contactList, List<Policy> policyList, List<Contract> contractList,
+                                     List<Appointment> appointmentList) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.loadData(contactList, policyList, contractList, appointmentList);
+        } catch (DuplicateContactException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CONTACT);
+        } catch (DuplicatePolicyException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_POLICY);
+        } catch (DuplicateContractException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CONTRACT);
+        } catch (DuplicateAppointmentException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT);
         }
+        return addressBook;
     }
 
 }
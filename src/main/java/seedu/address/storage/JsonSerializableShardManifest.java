@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * The manifest of a sharded address book, naming the shard file that currently holds each list.
+ * A set of shards is only consistent with each other when named by the same manifest.
+ */
+@JsonPropertyOrder({"version", "generation", "contracts", "contacts", "policies", "appointments"})
+class JsonSerializableShardManifest {
+
+    public static final String MISSING_SHARD_MESSAGE_FORMAT = "Shard manifest does not name a %s shard.";
+
+    private final int version;
+    private final long generation;
+    private final String contracts;
+    private final String contacts;
+    private final String policies;
+    private final String appointments;
+
+    /**
+     * Constructs a {@code JsonSerializableShardManifest} with the given shard file names, which are resolved against
+     * the directory that holds the manifest.
+     */
+    @JsonCreator
+    public JsonSerializableShardManifest(@JsonProperty("version") int version,
+                                         @JsonProperty("generation") long generation,
+                                         @JsonProperty("contracts") String contracts,
+                                         @JsonProperty("contacts") String contacts,
+                                         @JsonProperty("policies") String policies,
+                                         @JsonProperty("appointments") String appointments) {
+        this.version = version;
+        this.generation = generation;
+        this.contracts = contracts;
+        this.contacts = contacts;
+        this.policies = policies;
+        this.appointments = appointments;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of the save that wrote this manifest. Shards written by the next save are named after
+     * the next number.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    public String getContracts() {
+        return contracts;
+    }
+
+    public String getContacts() {
+        return contacts;
+    }
+
+    public String getPolicies() {
+        return policies;
+    }
+
+    public String getAppointments() {
+        return appointments;
+    }
+
+    /**
+     * Checks that this manifest is of a supported version and names a shard for every list.
+     *
+     * @throws IllegalValueException if it is not.
+     */
+    void validate() throws IllegalValueException {
+        JsonSerializableAddressBook.checkVersion(version);
+        requireShard(contracts, "contracts");
+        requireShard(contacts, "contacts");
+        requireShard(policies, "policies");
+        requireShard(appointments, "appointments");
+    }
+
+    private static void requireShard(String fileName, String list) throws IllegalValueException {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalValueException(String.format(MISSING_SHARD_MESSAGE_FORMAT, list));
+        }
+    }
+}
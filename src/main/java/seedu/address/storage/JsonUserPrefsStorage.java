@@ -3,9 +3,12 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.SaveDurability;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
@@ -14,6 +17,8 @@ import seedu.address.model.UserPrefs;
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonUserPrefsStorage.class);
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -32,11 +37,33 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     /**
      * Similar to {@link #readUserPrefs()}
+     * A save durability that is missing a value or names no {@code SaveDurability} is read as
+     * {@code SaveDurability.NONE}.
+     * A compression level that is not a valid gzip level is read as the default level.
      * @param prefsFilePath location of the data. Cannot be null.
      * @throws DataLoadingException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataLoadingException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<UserPrefs> userPrefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        userPrefs.ifPresent(prefs -> useDefaultsForInvalidSettings(prefs, prefsFilePath));
+        return userPrefs;
+    }
+
+    /**
+     * Replaces the settings in {@code userPrefs} that the preference file at {@code prefsFilePath} gave invalid
+     * values, which the JSON reader sets without validating, with their defaults.
+     */
+    private static void useDefaultsForInvalidSettings(UserPrefs userPrefs, Path prefsFilePath) {
+        if (userPrefs.getAddressBookSaveDurability() == null) {
+            logger.warning("Invalid data file save durability in " + prefsFilePath + ". Using "
+                    + SaveDurability.NONE + ".");
+            userPrefs.setAddressBookSaveDurability(SaveDurability.NONE);
+        }
+        if (!DataFileCompression.isValidLevel(userPrefs.getAddressBookCompressionLevel())) {
+            logger.warning("Invalid data file compression level " + userPrefs.getAddressBookCompressionLevel()
+                    + " in " + prefsFilePath + ". Using the default level.");
+            userPrefs.setAddressBookCompressionLevel(DataFileCompression.DEFAULT_LEVEL);
+        }
     }
 
     @Override
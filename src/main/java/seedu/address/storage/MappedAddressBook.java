@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookStorage.HEADER_SIZE;
+import static seedu.address.storage.BinaryEntryDecoder.MESSAGE_CORRUPT;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.exceptions.InvalidContractDatesException;
+import seedu.address.model.policy.Policy;
+
+/**
+ * A read-only address book backed by a memory-mapped binary snapshot.
+ * Opening the book only walks the length prefixes of the entries to find where each one starts. An entry is decoded
+ * the first time it is accessed, and is then kept so that later accesses return the same object.
+ * <p>
+ * The snapshot's checksum is not verified, since that would read the whole file. An entry that turns out to be
+ * corrupt when it is accessed causes an {@code IllegalStateException}.
+ */
+class MappedAddressBook implements ReadOnlyAddressBook {
+
+    private final ByteBuffer body;
+    private final ObservableList<Contact> contacts;
+    private final ObservableList<Policy> policies;
+    private final ObservableList<Contract> contracts;
+    private final ObservableList<Appointment> appointments;
+    private BinaryEntryDecoder decoder;
+    private int scanPosition = 0;
+    private int decodedCount = 0;
+
+    private MappedAddressBook(ByteBuffer body) throws IllegalValueException {
+        this.body = body;
+        LazyEntryList<String> strings = new LazyEntryList<>(scanSection(), BinaryEntryDecoder::decodeString);
+        LazyEntryList<Contract> contractList = new LazyEntryList<>(scanSection(),
+                (in, end) -> decoder.decodeContract(in, end));
+        decoder = new BinaryEntryDecoder(strings, contractList);
+        contracts = toObservableList(contractList);
+        contacts = toObservableList(new LazyEntryList<>(scanSection(), decoder::decodeContact));
+        policies = toObservableList(new LazyEntryList<>(scanSection(), decoder::decodePolicy));
+        appointments = toObservableList(new LazyEntryList<>(scanSection(), decoder::decodeAppointment));
+        if (scanPosition != body.limit()) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+    }
+
+    /**
+     * Maps the binary snapshot in {@code channel} and returns the address book it holds.
+     * The mapping stays valid after the channel is closed.
+     *
+     * @throws IOException if the file cannot be mapped.
+     * @throws IllegalValueException if the file is not a supported snapshot or its entries cannot be located.
+     */
+    static MappedAddressBook map(FileChannel channel) throws IOException, IllegalValueException {
+        long size = channel.size();
+        if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+        ByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+        ByteBuffer header = file.duplicate();
+        BinaryAddressBookReader.checkHeader(header);
+        if (header.getLong() != size - HEADER_SIZE) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+
+        file.position(HEADER_SIZE);
+        return new MappedAddressBook(file.slice());
+    }
+
+    /**
+     * Returns the positions of the length prefixes of the entries in the section at the scan position, and moves
+     * the scan position past the section.
+     */
+    private int[] scanSection() throws IllegalValueException {
+        int count = getLengthAt(scanPosition);
+        scanPosition += Integer.BYTES;
+        if (count > (body.limit() - scanPosition) / Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+
+        int[] offsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = scanPosition;
+            scanPosition += Integer.BYTES + getLengthAt(scanPosition);
+        }
+        return offsets;
+    }
+
+    /**
+     * Returns the length or count at {@code position}, checking that it fits in the rest of the body.
+     */
+    private int getLengthAt(int position) throws IllegalValueException {
+        if (position < 0 || body.limit() - position < Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+        int length = body.getInt(position);
+        if (length < 0 || length > body.limit() - position - Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+        return length;
+    }
+
+    /**
+     * Returns the number of entries decoded so far.
+     */
+    synchronized int getDecodedCount() {
+        return decodedCount;
+    }
+
+    private static <T> ObservableList<T> toObservableList(LazyEntryList<T> entries) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(entries));
+    }
+
+    @Override
+    public ObservableList<Contact> getContactList() {
+        return contacts;
+    }
+
+    @Override
+    public ObservableList<Policy> getPolicyList() {
+        return policies;
+    }
+
+    @Override
+    public ObservableList<Contract> getContractList() {
+        return contracts;
+    }
+
+    @Override
+    public ObservableList<Appointment> getAppointmentList() {
+        return appointments;
+    }
+
+    /**
+     * Decodes a single entry of a binary snapshot.
+     */
+    @FunctionalInterface
+    private interface EntryDecoder<T> {
+        T decode(ByteBuffer in, int end) throws IllegalValueException;
+    }
+
+    /**
+     * The entries of one section of the snapshot, each decoded on first access.
+     */
+    private class LazyEntryList<T> extends AbstractList<T> {
+        private final int[] offsets;
+        private final EntryDecoder<T> entryDecoder;
+        private final Object[] decoded;
+
+        LazyEntryList(int[] offsets, EntryDecoder<T> entryDecoder) {
+            this.offsets = offsets;
+            this.entryDecoder = entryDecoder;
+            this.decoded = new Object[offsets.length];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            synchronized (MappedAddressBook.this) {
+                if (decoded[index] == null) {
+                    decoded[index] = decode(offsets[index]);
+                    decodedCount++;
+                }
+                return (T) decoded[index];
+            }
+        }
+
+        @Override
+        public int size() {
+            return offsets.length;
+        }
+
+        private T decode(int offset) {
+            ByteBuffer in = body.duplicate();
+            in.position(offset + Integer.BYTES);
+            int end = in.position() + body.getInt(offset);
+            try {
+                return entryDecoder.decode(in, end);
+            } catch (IllegalValueException | IllegalArgumentException | InvalidContractDatesException e) {
+                throw new IllegalStateException(MESSAGE_CORRUPT, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A read-only class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * The snapshot is memory-mapped rather than read, and its entries are decoded only when they are accessed; see
+ * {@link MappedAddressBook}. Files that are not binary snapshots are read as JSON. Saving always fails.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_READ_ONLY = "The data file is open read-only, so changes cannot be saved.";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public MappedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (!BinaryAddressBookStorage.isBinarySnapshot(channel)) {
+                logger.info(filePath + " is not a binary snapshot, reading it as JSON.");
+                return JsonAddressBookStreamReader.readAddressBook(filePath);
+            }
+            return Optional.of(MappedAddressBook.map(channel));
+        } catch (IOException e) {
+            logger.warning("Error mapping binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Always fails, since this storage is read-only.
+     *
+     * @throws IOException always.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Always fails, since this storage is read-only.
+     *
+     * @throws IOException always.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        throw new IOException(MESSAGE_READ_ONLY);
+    }
+}
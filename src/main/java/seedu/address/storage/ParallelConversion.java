@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts lists of Jackson-friendly entries to model entries, using every core of the common fork-join pool for
+ * large lists. The converted list is in the same order as the source list, and a failure is reported as if the
+ * entries had been converted one by one: the error of the earliest failing entry is thrown.
+ */
+class ParallelConversion {
+
+    /** Lists shorter than this are converted on the calling thread, where forking would cost more than it saves. */
+    static final int PARALLEL_THRESHOLD = 512;
+
+    private ParallelConversion() {}
+
+    /**
+     * Converts a single entry. Conversions of different entries must be independent of each other.
+     */
+    @FunctionalInterface
+    interface Conversion<S, T> {
+        T convert(S source) throws IllegalValueException;
+    }
+
+    /**
+     * Returns the result of converting each entry of {@code sources} with {@code conversion}, in order.
+     *
+     * @throws IllegalValueException if an entry cannot be converted. If several cannot, the error of the one that
+     *     comes first in {@code sources} is thrown.
+     */
+    static <S, T> List<T> convertAll(List<S> sources, Conversion<S, T> conversion) throws IllegalValueException {
+        if (sources.size() < PARALLEL_THRESHOLD) {
+            List<T> converted = new ArrayList<>(sources.size());
+            for (S source : sources) {
+                converted.add(conversion.convert(source));
+            }
+            return converted;
+        }
+
+        Object[] results = new Object[sources.size()];
+        Exception[] errors = new Exception[sources.size()];
+        IntStream.range(0, sources.size()).parallel().forEach(i -> {
+            try {
+                results[i] = conversion.convert(sources.get(i));
+            } catch (IllegalValueException | RuntimeException e) {
+                errors[i] = e;
+            }
+        });
+
+        List<T> converted = new ArrayList<>(sources.size());
+        for (int i = 0; i < results.length; i++) {
+            if (errors[i] instanceof IllegalValueException ive) {
+                throw ive;
+            }
+            if (errors[i] instanceof RuntimeException re) {
+                throw re;
+            }
+            @SuppressWarnings("unchecked")
+            T result = (T) results[i];
+            converted.add(result);
+        }
+        return converted;
+    }
+}
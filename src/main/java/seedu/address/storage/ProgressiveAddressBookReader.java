@@ -0,0 +1,198 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.policy.Policy;
+
+/**
+ * Reads an address book JSON file in two passes, so that the contacts and policies can be shown before the rest of
+ * the file has been read.
+ * The first pass reads only the contacts and policies, without their contracts. The second pass reads the contracts
+ * and appointments and hands them over in chunks; linking the contracts to their contacts and policies is left to
+ * whoever receives the chunks.
+ */
+public class ProgressiveAddressBookReader {
+
+    /** The number of contracts or appointments in each chunk of the second pass. */
+    static final int CHUNK_SIZE = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(ProgressiveAddressBookReader.class);
+
+    private final Path filePath;
+
+    public ProgressiveAddressBookReader(Path filePath) {
+        this.filePath = requireNonNull(filePath);
+    }
+
+    /**
+     * Receives the contracts and appointments of the second pass, one chunk at a time.
+     * A chunk holds either contracts or appointments, and chunks arrive in the order of the file.
+     * The handler may stop the reading by throwing an unchecked exception, which is passed on to the caller of
+     * {@link #readContractsAndAppointments} once the file has been closed.
+     */
+    @FunctionalInterface
+    public interface ChunkHandler {
+        /**
+         * Handles the next chunk. {@code progress} is the fraction of the file read so far, from 0 to 1.
+         */
+        void handle(List<Contract> contracts, List<Appointment> appointments, double progress);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns an address book with the contacts and policies stored in the file, but no contracts or appointments,
+     * or {@code Optional.empty()} if the file does not exist.
+     *
+     * @throws DataLoadingException if the file cannot be read or its contacts or policies are invalid.
+     */
+    public Optional<ReadOnlyAddressBook> readContactsAndPolicies() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found, reading contacts and policies.");
+
+        List<Contact> contacts = new ArrayList<>();
+        List<Policy> policies = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(filePath); JsonParser parser = openParser(channel)) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                case "version":
+                    JsonSerializableAddressBook.checkVersion(parser.getIntValue());
+                    break;
+                case "contacts":
+                    readInChunks(parser, JsonAdaptedContact.class,
+                            JsonAdaptedContact::toModelTypeDroppingContractIds, contacts::addAll);
+                    break;
+                case "policies":
+                    readInChunks(parser, JsonAdaptedPolicy.class,
+                            JsonAdaptedPolicy::toModelTypeDroppingContractIds, policies::addAll);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+            }
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(contacts, policies,
+                    Collections.emptyList(), Collections.emptyList()));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the contracts and appointments stored in the file and passes them to {@code handler} in chunks of at
+     * most {@link #CHUNK_SIZE} entries. Duplicates are not checked here, since that needs the whole address book.
+     *
+     * @throws DataLoadingException if the file cannot be read or holds an invalid contract or appointment. Chunks
+     *     before the invalid entry will already have been handled.
+     */
+    public void readContractsAndAppointments(ChunkHandler handler) throws DataLoadingException {
+        requireNonNull(handler);
+        try (FileChannel channel = FileChannel.open(filePath); JsonParser parser = openParser(channel)) {
+            double fileSize = Math.max(1, channel.size());
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                case "contracts":
+                    readInChunks(parser, JsonAdaptedContract.class, JsonAdaptedContract::toModelType, contracts ->
+                            handler.handle(contracts, Collections.emptyList(), getProgress(channel, fileSize)));
+                    break;
+                case "appointments":
+                    readInChunks(parser, JsonAdaptedAppointment.class, JsonAdaptedAppointment::toModelType,
+                            appointments -> handler.handle(Collections.emptyList(), appointments,
+                                    getProgress(channel, fileSize)));
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns a parser positioned inside the top-level object of the file read through {@code channel}.
+     */
+    private static JsonParser openParser(FileChannel channel) throws IOException {
+        JsonParser parser = JsonUtil.createParser(DataFileCompression.openForReading(channel));
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            parser.close();
+            throw new JsonParseException("Expected an address book object", parser.getCurrentLocation());
+        }
+        return parser;
+    }
+
+    /**
+     * Returns the fraction of the file read so far. This is measured on the file rather than on the parser, since
+     * the parser sees the decompressed content of a compressed file.
+     */
+    private static double getProgress(FileChannel channel, double fileSize) {
+        try {
+            return Math.min(1, channel.position() / fileSize);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Reads the array at the parser's position, converting its entries with {@code conversion} and passing them to
+     * {@code sink} in chunks of at most {@link #CHUNK_SIZE} entries.
+     */
+    private static <S, T> void readInChunks(JsonParser parser, Class<S> type,
+                                            ParallelConversion.Conversion<S, T> conversion, Consumer<List<T>> sink)
+            throws IOException, IllegalValueException {
+        if (!JsonAddressBookStreamReader.startArray(parser)) {
+            return;
+        }
+        List<S> pending = new ArrayList<>(CHUNK_SIZE);
+        while (JsonAddressBookStreamReader.nextElement(parser)) {
+            pending.add(parser.readValueAs(type));
+            if (pending.size() == CHUNK_SIZE) {
+                sink.accept(ParallelConversion.convertAll(pending, conversion));
+                pending.clear();
+            }
+        }
+        if (!pending.isEmpty()) {
+            sink.accept(ParallelConversion.convertAll(pending, conversion));
+        }
+    }
+}
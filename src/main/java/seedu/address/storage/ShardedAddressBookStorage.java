@@ -0,0 +1,309 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.SaveDurability;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.policy.Policy;
+
+/**
+ * A class to access AddressBook data stored as a directory of shard files, one per list, tied together by a
+ * manifest.
+ * The data file path of this storage is the directory. Its {@code manifest.json} names the shard that currently holds
+ * each list, and each shard is a JSON array of that list's entries, in the same form as in a single-file address
+ * book.
+ * <p>
+ * A save only writes the shards whose lists changed since the last save or read. Changed shards are written to new
+ * files named after the save's generation number, and the manifest is then replaced in a single atomic move, so
+ * readers always see a consistent set of shards even if a save is cut short. The new shards are forced to disk as far
+ * as the save durability asks before the manifest is replaced, and the manifest after. Shards that the manifest no
+ * longer names are deleted afterwards.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+    private static final String SHARD_FILE_NAME_FORMAT = "%s-%d.json";
+
+    private final Path directory;
+    private final boolean isCompact;
+    private final SaveDurability durability;
+
+    private final Shard<Contract> contracts = new Shard<>("contracts", Contract::equals, UnaryOperator.identity(),
+            JsonAdaptedContract::new);
+    private final Shard<Contact> contacts = new Shard<>("contacts",
+            (c, d) -> c.equals(d) && c.getContracts().equals(d.getContracts()),
+            c -> new Contact(c.getName(), c.getPhone(), c.getNric(), c.getEmail(), c.getAddress(), c.getTags(),
+                    c.getContracts()),
+            JsonAdaptedContact::new);
+    private final Shard<Policy> policies = new Shard<>("policies",
+            (p, q) -> p.equals(q) && p.getContracts().equals(q.getContracts()),
+            p -> new Policy(p.getName(), p.getDetails(), p.getId(), p.getContracts()),
+            JsonAdaptedPolicy::new);
+    private final Shard<Appointment> appointments = new Shard<>("appointments", Appointment::equals,
+            UnaryOperator.identity(), JsonAdaptedAppointment::new);
+
+    private long generation = 0;
+
+    public ShardedAddressBookStorage(Path directory) {
+        this(directory, false);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the shards in {@code directory}, which are written without
+     * indentation if {@code isCompact} is true.
+     */
+    public ShardedAddressBookStorage(Path directory, boolean isCompact) {
+        this(directory, isCompact, SaveDurability.NONE);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the shards in {@code directory}, which are written without
+     * indentation if {@code isCompact} is true and forced to disk as far as {@code durability} asks.
+     */
+    public ShardedAddressBookStorage(Path directory, boolean isCompact, SaveDurability durability) {
+        requireNonNull(durability);
+        this.directory = directory;
+        this.isCompact = isCompact;
+        this.durability = durability;
+    }
+
+    public Path getAddressBookFilePath() {
+        return directory;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directory);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param directory location of the shards. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path directory) throws DataLoadingException {
+        requireNonNull(directory);
+
+        Optional<JsonSerializableShardManifest> manifest =
+                JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE_NAME), JsonSerializableShardManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            manifest.get().validate();
+            addressBook = readShards(directory, manifest.get());
+        } catch (IOException e) {
+            logger.warning("Error reading from shards in " + directory + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (directory.equals(this.directory)) {
+            generation = manifest.get().getGeneration();
+            contracts.remember(manifest.get().getContracts(), addressBook.getContractList());
+            contacts.remember(manifest.get().getContacts(), addressBook.getContactList());
+            policies.remember(manifest.get().getPolicies(), addressBook.getPolicyList());
+            appointments.remember(manifest.get().getAppointments(), addressBook.getAppointmentList());
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directory);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any other directory than this storage's writes every shard there.
+     *
+     * @param directory location of the shards. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path directory) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directory);
+
+        if (!directory.equals(this.directory)) {
+            new ShardedAddressBookStorage(directory, isCompact, durability).saveAddressBook(addressBook);
+            return;
+        }
+
+        boolean isContractsChanged = contracts.hasChanged(addressBook.getContractList());
+        boolean isContactsChanged = contacts.hasChanged(addressBook.getContactList());
+        boolean isPoliciesChanged = policies.hasChanged(addressBook.getPolicyList());
+        boolean isAppointmentsChanged = appointments.hasChanged(addressBook.getAppointmentList());
+        if (!isContractsChanged && !isContactsChanged && !isPoliciesChanged && !isAppointmentsChanged) {
+            logger.fine("No shard changed, skipping save");
+            return;
+        }
+
+        long nextGeneration = generation + 1;
+        String contractsFile = contracts.write(addressBook.getContractList(), isContractsChanged, nextGeneration);
+        String contactsFile = contacts.write(addressBook.getContactList(), isContactsChanged, nextGeneration);
+        String policiesFile = policies.write(addressBook.getPolicyList(), isPoliciesChanged, nextGeneration);
+        String appointmentsFile = appointments.write(addressBook.getAppointmentList(), isAppointmentsChanged,
+                nextGeneration);
+        writeManifest(new JsonSerializableShardManifest(JsonSerializableAddressBook.CURRENT_VERSION, nextGeneration,
+                contractsFile, contactsFile, policiesFile, appointmentsFile));
+        generation = nextGeneration;
+
+        contracts.replace(contractsFile, addressBook.getContractList());
+        contacts.replace(contactsFile, addressBook.getContactList());
+        policies.replace(policiesFile, addressBook.getPolicyList());
+        appointments.replace(appointmentsFile, addressBook.getAppointmentList());
+    }
+
+    private static ReadOnlyAddressBook readShards(Path directory, JsonSerializableShardManifest manifest)
+            throws IOException, IllegalValueException {
+        List<Contract> contractList = readShard(directory.resolve(manifest.getContracts()),
+                JsonAdaptedContract.class, JsonAdaptedContract::toModelType);
+        Map<String, List<Contract>> contractsById = new HashMap<>();
+        contractList.forEach(contract -> JsonSerializableAddressBook.addToContractTable(contractsById, contract));
+
+        List<Contact> contactList = readShard(directory.resolve(manifest.getContacts()),
+                JsonAdaptedContact.class, contact -> contact.toModelType(contractsById));
+        List<Policy> policyList = readShard(directory.resolve(manifest.getPolicies()),
+                JsonAdaptedPolicy.class, policy -> policy.toModelType(contractsById));
+        List<Appointment> appointmentList = readShard(directory.resolve(manifest.getAppointments()),
+                JsonAdaptedAppointment.class, JsonAdaptedAppointment::toModelType);
+        return JsonSerializableAddressBook.toAddressBook(contactList, policyList, contractList, appointmentList);
+    }
+
+    private static <S, T> List<T> readShard(Path shardPath, Class<S> type,
+                                            ParallelConversion.Conversion<S, T> conversion)
+            throws IOException, IllegalValueException {
+        List<S> entries = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(new BufferedInputStream(Files.newInputStream(shardPath)))) {
+            if (parser.nextToken() == null) {
+                throw new JsonParseException("Expected a shard array", parser.getCurrentLocation());
+            }
+            if (JsonAddressBookStreamReader.startArray(parser)) {
+                while (JsonAddressBookStreamReader.nextElement(parser)) {
+                    entries.add(parser.readValueAs(type));
+                }
+            }
+        }
+        return ParallelConversion.convertAll(entries, conversion);
+    }
+
+    /**
+     * Replaces the manifest with {@code manifest}. The new manifest is written beside the old one and moved over it,
+     * so the manifest on disk is always complete.
+     */
+    private void writeManifest(JsonSerializableShardManifest manifest) throws IOException {
+        byte[] content = JsonUtil.toJsonString(manifest).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeAtomically(directory.resolve(MANIFEST_FILE_NAME), out -> out.write(content), durability);
+    }
+
+    /**
+     * One list of the address book, with the file that holds it and the entries last written to or read from it.
+     */
+    private class Shard<T> {
+        private final String name;
+        private final BiPredicate<T, T> isSameState;
+        private final UnaryOperator<T> copyOf;
+        private final Function<T, Object> toJsonAdapted;
+        private String fileName;
+        private List<T> savedEntries;
+
+        Shard(String name, BiPredicate<T, T> isSameState, UnaryOperator<T> copyOf,
+              Function<T, Object> toJsonAdapted) {
+            this.name = name;
+            this.isSameState = isSameState;
+            this.copyOf = copyOf;
+            this.toJsonAdapted = toJsonAdapted;
+        }
+
+        /**
+         * Returns true if {@code current} differs from the entries in the shard file, or the file is unknown.
+         */
+        boolean hasChanged(List<T> current) {
+            if (savedEntries == null || savedEntries.size() != current.size()) {
+                return true;
+            }
+            for (int i = 0; i < current.size(); i++) {
+                if (!isSameState.test(savedEntries.get(i), current.get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Writes {@code current} to a new shard file for {@code nextGeneration} if {@code isChanged}, and returns
+         * the name of the file that holds {@code current}.
+         */
+        String write(List<T> current, boolean isChanged, long nextGeneration) throws IOException {
+            if (!isChanged) {
+                return fileName;
+            }
+
+            String nextFileName = String.format(SHARD_FILE_NAME_FORMAT, name, nextGeneration);
+            FileUtil.writeAtomically(directory.resolve(nextFileName), out -> {
+                try (JsonGenerator generator = JsonUtil.createGenerator(new BufferedOutputStream(out), isCompact)) {
+                    generator.writeStartArray();
+                    for (T entry : current) {
+                        JsonUtil.writeValue(generator, toJsonAdapted.apply(entry));
+                    }
+                    generator.writeEndArray();
+                }
+            }, durability);
+            return nextFileName;
+        }
+
+        /**
+         * Records that the manifest now names {@code newFileName} for this shard, deleting the file it replaced.
+         */
+        void replace(String newFileName, List<T> current) {
+            if (fileName != null && !fileName.equals(newFileName)) {
+                try {
+                    Files.deleteIfExists(directory.resolve(fileName));
+                } catch (IOException e) {
+                    logger.warning("Could not delete replaced shard " + fileName + ": " + e.getMessage());
+                }
+            }
+            remember(newFileName, current);
+        }
+
+        void remember(String currentFileName, List<T> current) {
+            fileName = currentFileName;
+            savedEntries = new ArrayList<>(current.size());
+            current.forEach(entry -> savedEntries.add(copyOf.apply(entry)));
+        }
+    }
+}
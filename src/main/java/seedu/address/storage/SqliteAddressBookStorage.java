@@ -0,0 +1,645 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.policy.Policy;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in an embedded SQLite database file.
+ * Contacts, policies, contracts and appointments are each held in a table keyed by a row id, with a table of contact
+ * tags beside them. NRICs and policy ids are unique, and contracts and appointments refer to their contacts and
+ * policies by them through foreign keys. Contract and appointment ids are indexed but not unique, since the model
+ * only tells contracts and appointments apart by their identity keys. Every row keeps its position in its list so
+ * that the lists read back in order.
+ * <p>
+ * A save writes only the rows that were added, edited, moved or removed since the last save or read, all in a single
+ * transaction, so the database is never left holding part of a command's changes. Foreign keys are checked when the
+ * transaction commits.
+ * <p>
+ * Finding those rows still takes a pass over every entry of the address book, comparing each with the state last
+ * saved, so a save costs time in proportion to the size of the address book even when one row changes. And since a
+ * transaction holds whatever changed between two saves, saving several commands at once, as a
+ * {@link WriteBehindStorage} does when commands arrive faster than it writes, commits them as one transaction.
+ * The app therefore saves to this storage on the command's own thread.
+ */
+public class SqliteAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_UNSUPPORTED_SCHEMA = "Database schema version %d is not supported.";
+
+    /** The version of the schema below, kept in the database's {@code user_version}. */
+    static final int SCHEMA_VERSION = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(SqliteAddressBookStorage.class);
+    private static final String JDBC_URL_PREFIX = "jdbc:sqlite:";
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS contacts (row_id INTEGER PRIMARY KEY, nric TEXT NOT NULL UNIQUE,"
+                + " name TEXT NOT NULL, phone TEXT NOT NULL, email TEXT NOT NULL, address TEXT NOT NULL,"
+                + " position INTEGER NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS contact_tags (nric TEXT NOT NULL REFERENCES contacts (nric) ON DELETE CASCADE,"
+                + " tag TEXT NOT NULL, PRIMARY KEY (nric, tag))",
+        "CREATE TABLE IF NOT EXISTS policies (row_id INTEGER PRIMARY KEY, policy_id TEXT NOT NULL UNIQUE,"
+                + " name TEXT NOT NULL, details TEXT NOT NULL, position INTEGER NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS contracts (row_id INTEGER PRIMARY KEY, contract_id TEXT NOT NULL,"
+                + " name TEXT NOT NULL, nric TEXT NOT NULL REFERENCES contacts (nric),"
+                + " policy_id TEXT NOT NULL REFERENCES policies (policy_id),"
+                + " date_signed TEXT NOT NULL, expiry_date TEXT NOT NULL, premium TEXT NOT NULL,"
+                + " position INTEGER NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS appointments (row_id INTEGER PRIMARY KEY, appointment_id TEXT NOT NULL,"
+                + " nric TEXT NOT NULL REFERENCES contacts (nric), date TEXT NOT NULL, details TEXT NOT NULL,"
+                + " position INTEGER NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS contracts_by_contract_id ON contracts (contract_id)",
+        "CREATE INDEX IF NOT EXISTS contracts_by_nric ON contracts (nric)",
+        "CREATE INDEX IF NOT EXISTS contracts_by_policy_id ON contracts (policy_id)",
+        "CREATE INDEX IF NOT EXISTS appointments_by_appointment_id ON appointments (appointment_id)",
+        "CREATE INDEX IF NOT EXISTS appointments_by_nric ON appointments (nric)"
+    };
+
+    private final Path filePath;
+
+    private final Table<Contact> contacts = new Table<>("contacts",
+            List.of("nric", "name", "phone", "email", "address"), Contact::getNric,
+            c -> List.of(c.getNric().nric, c.getName().fullName, c.getPhone().value, c.getEmail().value,
+                    c.getAddress().value),
+            c -> Set.copyOf(c.getTags()));
+    private final Table<Policy> policies = new Table<>("policies", List.of("policy_id", "name", "details"),
+            Policy::getId, p -> List.of(p.getId().value, p.getName().value, p.getDetails().value));
+    private final Table<Contract> contracts = new Table<>("contracts",
+            List.of("contract_id", "name", "nric", "policy_id", "date_signed", "expiry_date", "premium"),
+            Contract::getIdentityKey,
+            c -> List.of(c.getCId().toString(), c.getName().fullName, c.getNric().toString(), c.getPId().toString(),
+                    c.getDate().toString(), c.getExpiryDate().toString(), c.getPremium().toString()));
+    private final Table<Appointment> appointments = new Table<>("appointments",
+            List.of("appointment_id", "nric", "date", "details"), Appointment::getIdentityKey,
+            a -> List.of(a.getAId().toString(), a.getNric().toString(), a.getDate().toString(),
+                    a.getDetails().toString()));
+
+    private boolean isInSyncWithFile = false;
+    private int rowsWrittenByLastSave = 0;
+
+    public SqliteAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of rows that the last save inserted, updated or deleted, counting tags.
+     */
+    public int getRowsWrittenByLastSave() {
+        return rowsWrittenByLastSave;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the database. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("SQLite database " + filePath + " found.");
+
+        try (Connection connection = open(filePath)) {
+            ReadOnlyAddressBook addressBook = readTables(connection);
+            if (filePath.equals(this.filePath)) {
+                contacts.remember(addressBook.getContactList(), connection);
+                policies.remember(addressBook.getPolicyList(), connection);
+                contracts.remember(addressBook.getContractList(), connection);
+                appointments.remember(addressBook.getAppointmentList(), connection);
+                isInSyncWithFile = true;
+            }
+            return Optional.of(addressBook);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any other location than this storage's database replaces every row of the database there.
+     *
+     * @param filePath location of the database. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            new SqliteAddressBookStorage(filePath).saveAddressBook(addressBook);
+            return;
+        }
+
+        if (!isInSyncWithFile) {
+            contacts.forget();
+            policies.forget();
+            contracts.forget();
+            appointments.forget();
+        }
+        Changes<Contact> contactChanges = contacts.diff(addressBook.getContactList());
+        Changes<Policy> policyChanges = policies.diff(addressBook.getPolicyList());
+        Changes<Contract> contractChanges = contracts.diff(addressBook.getContractList());
+        Changes<Appointment> appointmentChanges = appointments.diff(addressBook.getAppointmentList());
+        if (isInSyncWithFile && contactChanges.isEmpty() && policyChanges.isEmpty() && contractChanges.isEmpty()
+                && appointmentChanges.isEmpty()) {
+            logger.fine("No row changed, skipping save");
+            rowsWrittenByLastSave = 0;
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (Connection connection = open(filePath)) {
+            connection.setAutoCommit(false);
+            try {
+                int rowCount = prepareSchema(connection);
+                rowCount += appointments.delete(connection, appointmentChanges);
+                rowCount += contracts.delete(connection, contractChanges);
+                rowCount += policies.delete(connection, policyChanges);
+                rowCount += contacts.delete(connection, contactChanges);
+                rowCount += contacts.write(connection, contactChanges);
+                rowCount += writeTags(connection, contactChanges.getWrittenEntries());
+                rowCount += policies.write(connection, policyChanges);
+                rowCount += contracts.write(connection, contractChanges);
+                rowCount += appointments.write(connection, appointmentChanges);
+                connection.commit();
+                rowsWrittenByLastSave = rowCount;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Error writing to database " + filePath + ": " + e.getMessage(), e);
+        }
+
+        contacts.apply(contactChanges);
+        policies.apply(policyChanges);
+        contracts.apply(contractChanges);
+        appointments.apply(appointmentChanges);
+        isInSyncWithFile = true;
+    }
+
+    /**
+     * Returns a connection to the database at {@code filePath} that enforces foreign keys.
+     */
+    private static Connection open(Path filePath) throws SQLException {
+        Connection connection = DriverManager.getConnection(JDBC_URL_PREFIX + filePath.toAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA foreign_keys = ON");
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    /**
+     * Creates the tables if this storage does not know what the database holds, emptying them if they already exist,
+     * or replacing them if they were made for another version of the schema.
+     * Foreign keys are checked at commit for the rest of the transaction, so that rows can be written in any order.
+     *
+     * @return the number of rows deleted.
+     */
+    private int prepareSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA defer_foreign_keys = ON");
+            if (isInSyncWithFile) {
+                return 0;
+            }
+
+            boolean isOtherSchema = readSchemaVersion(statement) != SCHEMA_VERSION;
+            int rowCount = 0;
+            for (String table : List.of("appointments", "contracts", "contact_tags", "policies", "contacts")) {
+                if (isOtherSchema) {
+                    statement.execute("DROP TABLE IF EXISTS " + table);
+                } else {
+                    rowCount += statement.executeUpdate("DELETE FROM " + table);
+                }
+            }
+            for (String definition : SCHEMA) {
+                statement.execute(definition);
+            }
+            statement.execute("PRAGMA user_version = " + SCHEMA_VERSION);
+            return rowCount;
+        }
+    }
+
+    /**
+     * Replaces the tags of each contact in {@code writtenContacts}.
+     *
+     * @return the number of tag rows deleted or inserted.
+     */
+    private static int writeTags(Connection connection, List<Contact> writtenContacts) throws SQLException {
+        if (writtenContacts.isEmpty()) {
+            return 0;
+        }
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM contact_tags WHERE nric = ?");
+                PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO contact_tags (nric, tag) VALUES (?, ?)")) {
+            for (Contact contact : writtenContacts) {
+                delete.setString(1, contact.getNric().nric);
+                delete.addBatch();
+                for (Tag tag : contact.getTags()) {
+                    insert.setString(1, contact.getNric().nric);
+                    insert.setString(2, tag.tagName);
+                    insert.addBatch();
+                }
+            }
+            return sum(delete.executeBatch()) + sum(insert.executeBatch());
+        }
+    }
+
+    private static ReadOnlyAddressBook readTables(Connection connection) throws SQLException, IllegalValueException {
+        try (Statement statement = connection.createStatement()) {
+            checkSchemaVersion(statement);
+
+            List<JsonAdaptedContract> adaptedContracts = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery("SELECT contract_id, name, nric, policy_id, date_signed,"
+                    + " expiry_date, premium FROM contracts ORDER BY position, row_id")) {
+                while (rows.next()) {
+                    adaptedContracts.add(new JsonAdaptedContract(rows.getString(1), rows.getString(2),
+                            rows.getString(3), rows.getString(4), rows.getString(5), rows.getString(6),
+                            rows.getString(7)));
+                }
+            }
+            List<Contract> contractList = ParallelConversion.convertAll(adaptedContracts,
+                    JsonAdaptedContract::toModelType);
+            Map<String, List<Contract>> contractsById = new HashMap<>();
+            contractList.forEach(contract -> JsonSerializableAddressBook.addToContractTable(contractsById, contract));
+            Map<String, List<String>> contractIdsByNric = groupContractIds(contractList, c -> c.getNric().toString());
+            Map<String, List<String>> contractIdsByPolicyId = groupContractIds(contractList,
+                    c -> c.getPId().toString());
+
+            Map<String, List<JsonAdaptedTag>> tagsByNric = new HashMap<>();
+            try (ResultSet rows = statement.executeQuery("SELECT nric, tag FROM contact_tags")) {
+                while (rows.next()) {
+                    tagsByNric.computeIfAbsent(rows.getString(1), unused -> new ArrayList<>())
+                            .add(new JsonAdaptedTag(rows.getString(2)));
+                }
+            }
+
+            List<JsonAdaptedContact> adaptedContacts = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery(
+                    "SELECT nric, name, phone, email, address FROM contacts ORDER BY position, row_id")) {
+                while (rows.next()) {
+                    String nric = rows.getString(1);
+                    adaptedContacts.add(new JsonAdaptedContact(rows.getString(2), rows.getString(3), nric,
+                            rows.getString(4), rows.getString(5), tagsByNric.get(nric), null,
+                            contractIdsByNric.get(nric)));
+                }
+            }
+
+            List<JsonAdaptedPolicy> adaptedPolicies = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery(
+                    "SELECT policy_id, name, details FROM policies ORDER BY position, row_id")) {
+                while (rows.next()) {
+                    String policyId = rows.getString(1);
+                    adaptedPolicies.add(new JsonAdaptedPolicy(rows.getString(2), rows.getString(3), policyId, null,
+                            contractIdsByPolicyId.get(policyId)));
+                }
+            }
+
+            List<JsonAdaptedAppointment> adaptedAppointments = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery(
+                    "SELECT appointment_id, nric, date, details FROM appointments ORDER BY position, row_id")) {
+                while (rows.next()) {
+                    adaptedAppointments.add(new JsonAdaptedAppointment(rows.getString(1), rows.getString(2),
+                            rows.getString(3), rows.getString(4)));
+                }
+            }
+
+            return JsonSerializableAddressBook.toAddressBook(
+                    ParallelConversion.convertAll(adaptedContacts, contact -> contact.toModelType(contractsById)),
+                    ParallelConversion.convertAll(adaptedPolicies, policy -> policy.toModelType(contractsById)),
+                    contractList,
+                    ParallelConversion.convertAll(adaptedAppointments, JsonAdaptedAppointment::toModelType));
+        }
+    }
+
+    private static void checkSchemaVersion(Statement statement) throws SQLException, IllegalValueException {
+        int version = readSchemaVersion(statement);
+        if (version != SCHEMA_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_SCHEMA, version));
+        }
+    }
+
+    private static int readSchemaVersion(Statement statement) throws SQLException {
+        try (ResultSet rows = statement.executeQuery("PRAGMA user_version")) {
+            return rows.next() ? rows.getInt(1) : 0;
+        }
+    }
+
+    private static Map<String, List<String>> groupContractIds(List<Contract> contractList,
+                                                              Function<Contract, String> keyOf) {
+        return contractList.stream().collect(Collectors.groupingBy(keyOf,
+                Collectors.mapping(contract -> contract.getCId().toString(), Collectors.toList())));
+    }
+
+    private static int sum(int[] updateCounts) {
+        int sum = 0;
+        for (int count : updateCounts) {
+            sum += Math.max(count, 0);
+        }
+        return sum;
+    }
+
+    /**
+     * The rows to write to one table to turn its saved rows into the current entries of its list.
+     */
+    private static class Changes<T> {
+        private final List<Long> removedRowIds = new ArrayList<>();
+        private final List<T> insertedEntries = new ArrayList<>();
+        private final List<T> updatedEntries = new ArrayList<>();
+        private final List<T> movedEntries = new ArrayList<>();
+        private final Map<Object, Object> states = new HashMap<>();
+        private final Map<Object, Long> positions = new HashMap<>();
+        private final Map<Object, Long> rowIds = new HashMap<>();
+        private long nextPosition;
+        private long nextRowId;
+
+        boolean isEmpty() {
+            return removedRowIds.isEmpty() && insertedEntries.isEmpty() && updatedEntries.isEmpty()
+                    && movedEntries.isEmpty();
+        }
+
+        /**
+         * Returns the entries whose rows are inserted or whose values are updated.
+         */
+        List<T> getWrittenEntries() {
+            List<T> written = new ArrayList<>(insertedEntries);
+            written.addAll(updatedEntries);
+            return written;
+        }
+    }
+
+    /**
+     * One table of the database, with the row id, state and position of each row last written to or read from it.
+     * Rows are matched to entries by the entries' identity keys, which are unique within a list. The state of a row
+     * is its values, plus whatever else is kept in other tables under its key.
+     */
+    private static class Table<T> {
+        private final String name;
+        private final List<String> valueColumns;
+        private final Function<T, Object> keyOf;
+        private final Function<T, List<String>> valuesOf;
+        private final Function<T, Object> extraStateOf;
+        private Map<Object, Object> savedStates = new HashMap<>();
+        private Map<Object, Long> savedPositions = new HashMap<>();
+        private Map<Object, Long> savedRowIds = new HashMap<>();
+        private long nextPosition = 0;
+        private long nextRowId = 1;
+
+        Table(String name, List<String> valueColumns, Function<T, Object> keyOf,
+              Function<T, List<String>> valuesOf) {
+            this(name, valueColumns, keyOf, valuesOf, entry -> null);
+        }
+
+        /**
+         * Creates a {@code Table} whose rows also count as changed when {@code extraStateOf} of their entry changes.
+         */
+        Table(String name, List<String> valueColumns, Function<T, Object> keyOf,
+              Function<T, List<String>> valuesOf, Function<T, Object> extraStateOf) {
+            this.name = name;
+            this.valueColumns = valueColumns;
+            this.keyOf = keyOf;
+            this.valuesOf = valuesOf;
+            this.extraStateOf = extraStateOf;
+        }
+
+        /**
+         * Returns the changes that turn the saved rows into {@code current}.
+         * Added entries are placed after the saved ones. If that would not reproduce the order of {@code current},
+         * every entry is renumbered instead, and entries whose position changed are moved.
+         */
+        Changes<T> diff(List<T> current) {
+            Changes<T> changes = new Changes<>();
+            boolean isReordered = isReordered(current);
+            long position = isReordered ? 0 : nextPosition;
+            long rowId = nextRowId;
+            for (T entry : current) {
+                Object key = keyOf.apply(entry);
+                Object state = stateOf(entry);
+                Object savedState = savedStates.get(key);
+                Long savedPosition = savedPositions.get(key);
+                long entryPosition = savedState == null || isReordered ? position++ : savedPosition;
+                changes.states.put(key, state);
+                changes.positions.put(key, entryPosition);
+                changes.rowIds.put(key, savedState == null ? rowId++ : savedRowIds.get(key));
+
+                if (savedState == null) {
+                    changes.insertedEntries.add(entry);
+                } else if (!savedState.equals(state)) {
+                    changes.updatedEntries.add(entry);
+                } else if (entryPosition != savedPosition) {
+                    changes.movedEntries.add(entry);
+                }
+            }
+            savedRowIds.forEach((key, savedRowId) -> {
+                if (!changes.rowIds.containsKey(key)) {
+                    changes.removedRowIds.add(savedRowId);
+                }
+            });
+            changes.nextPosition = position;
+            changes.nextRowId = rowId;
+            return changes;
+        }
+
+        /**
+         * Returns true if the entries of {@code current} that are already saved are not in the order of their saved
+         * positions, or come after an added entry.
+         */
+        private boolean isReordered(List<T> current) {
+            boolean hasAddedEntry = false;
+            long lastPosition = -1;
+            for (T entry : current) {
+                Long position = savedPositions.get(keyOf.apply(entry));
+                if (position == null) {
+                    hasAddedEntry = true;
+                } else if (hasAddedEntry || position < lastPosition) {
+                    return true;
+                } else {
+                    lastPosition = position;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Deletes the rows of the entries removed in {@code changes}.
+         *
+         * @return the number of rows deleted.
+         */
+        int delete(Connection connection, Changes<T> changes) throws SQLException {
+            if (changes.removedRowIds.isEmpty()) {
+                return 0;
+            }
+            try (PreparedStatement delete = connection.prepareStatement(
+                    "DELETE FROM " + name + " WHERE row_id = ?")) {
+                for (long rowId : changes.removedRowIds) {
+                    delete.setLong(1, rowId);
+                    delete.addBatch();
+                }
+                return sum(delete.executeBatch());
+            }
+        }
+
+        /**
+         * Inserts, updates and moves the rows of the entries added, edited and moved in {@code changes}.
+         *
+         * @return the number of rows written.
+         */
+        int write(Connection connection, Changes<T> changes) throws SQLException {
+            int rowCount = 0;
+            if (!changes.insertedEntries.isEmpty()) {
+                try (PreparedStatement insert = connection.prepareStatement(getInsertSql())) {
+                    for (T entry : changes.insertedEntries) {
+                        Object key = keyOf.apply(entry);
+                        insert.setLong(1, changes.rowIds.get(key));
+                        setValues(insert, 2, valuesOf.apply(entry));
+                        insert.setLong(valueColumns.size() + 2, changes.positions.get(key));
+                        insert.addBatch();
+                    }
+                    rowCount += sum(insert.executeBatch());
+                }
+            }
+            if (!changes.updatedEntries.isEmpty()) {
+                try (PreparedStatement update = connection.prepareStatement(getUpdateSql())) {
+                    for (T entry : changes.updatedEntries) {
+                        Object key = keyOf.apply(entry);
+                        setValues(update, 1, valuesOf.apply(entry));
+                        update.setLong(valueColumns.size() + 1, changes.positions.get(key));
+                        update.setLong(valueColumns.size() + 2, changes.rowIds.get(key));
+                        update.addBatch();
+                    }
+                    rowCount += sum(update.executeBatch());
+                }
+            }
+            if (!changes.movedEntries.isEmpty()) {
+                try (PreparedStatement move = connection.prepareStatement(
+                        "UPDATE " + name + " SET position = ? WHERE row_id = ?")) {
+                    for (T entry : changes.movedEntries) {
+                        Object key = keyOf.apply(entry);
+                        move.setLong(1, changes.positions.get(key));
+                        move.setLong(2, changes.rowIds.get(key));
+                        move.addBatch();
+                    }
+                    rowCount += sum(move.executeBatch());
+                }
+            }
+            return rowCount;
+        }
+
+        /**
+         * Records that the rows in {@code changes} have been written.
+         */
+        void apply(Changes<T> changes) {
+            savedStates = changes.states;
+            savedPositions = changes.positions;
+            savedRowIds = changes.rowIds;
+            nextPosition = changes.nextPosition;
+            nextRowId = changes.nextRowId;
+        }
+
+        /**
+         * Records that this table holds no rows.
+         */
+        void forget() {
+            savedStates = new HashMap<>();
+            savedPositions = new HashMap<>();
+            savedRowIds = new HashMap<>();
+            nextPosition = 0;
+            nextRowId = 1;
+        }
+
+        /**
+         * Records {@code current} as the rows of this table in the database behind {@code connection}.
+         * {@code current} must have been read in the order of the rows' positions.
+         */
+        void remember(List<T> current, Connection connection) throws SQLException {
+            forget();
+            try (Statement statement = connection.createStatement();
+                    ResultSet rows = statement.executeQuery(
+                            "SELECT row_id, position FROM " + name + " ORDER BY position, row_id")) {
+                for (T entry : current) {
+                    rows.next();
+                    Object key = keyOf.apply(entry);
+                    long rowId = rows.getLong(1);
+                    long position = rows.getLong(2);
+                    savedStates.put(key, stateOf(entry));
+                    savedPositions.put(key, position);
+                    savedRowIds.put(key, rowId);
+                    nextPosition = Math.max(nextPosition, position + 1);
+                    nextRowId = Math.max(nextRowId, rowId + 1);
+                }
+            }
+        }
+
+        private Object stateOf(T entry) {
+            return Arrays.asList(valuesOf.apply(entry), extraStateOf.apply(entry));
+        }
+
+        private String getInsertSql() {
+            return "INSERT INTO " + name + " (row_id, " + String.join(", ", valueColumns)
+                    + ", position) VALUES (?" + ", ?".repeat(valueColumns.size() + 1) + ")";
+        }
+
+        private String getUpdateSql() {
+            return "UPDATE " + name + " SET " + valueColumns.stream().map(column -> column + " = ?")
+                    .collect(Collectors.joining(", ")) + ", position = ? WHERE row_id = ?";
+        }
+
+        private static void setValues(PreparedStatement statement, int firstIndex, List<String> values)
+                throws SQLException {
+            for (int i = 0; i < values.size(); i++) {
+                statement.setString(firstIndex + i, values.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.policy.Policy;
+
+/**
+ * A {@code Storage} that writes the address book on a background thread.
+ * Saving captures a snapshot of the address book and returns immediately. If several saves arrive while a write
+ * is still in progress, only the latest snapshot is written once that write finishes.
+ * Failures of background writes are passed to the handler set with {@link #setSaveFailureHandler(Consumer)}, and
+ * a snapshot whose write failed is written again when the storage is shut down unless a later one was written.
+ * All other operations are delegated to the wrapped {@code Storage} on the calling thread.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final String MESSAGE_SHUTDOWN_TIMED_OUT = "Timed out waiting for the address book to be written.";
+
+    private final Storage storage;
+    private final ExecutorService writer;
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+    private volatile ReadOnlyAddressBook failedSnapshot;
+    private volatile Consumer<IOException> saveFailureHandler = e -> { };
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes through {@code storage} on a background thread.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is called on the writer thread when a background write fails.
+     */
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        flush();
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written to the data file and returns without waiting.
+     * Failures are reported to the save failure handler instead of being thrown.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (pendingSnapshot.getAndSet(snapshotOf(addressBook)) == null) {
+            writer.execute(this::writePendingSnapshot);
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} on the calling thread, after any scheduled writes.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Blocks until every write scheduled so far has finished.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail.", e);
+        }
+    }
+
+    /**
+     * Writes any scheduled snapshot and stops the background writer, then writes the last snapshot again on the
+     * calling thread if its background write failed.
+     * Further saves must not be made after this is called.
+     *
+     * @throws IOException if the last snapshot could not be written, so that changes to the address book are lost.
+     */
+    public void shutdown() throws IOException {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IOException(MESSAGE_SHUTDOWN_TIMED_OUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(MESSAGE_SHUTDOWN_TIMED_OUT, e);
+        }
+
+        ReadOnlyAddressBook snapshot = failedSnapshot;
+        failedSnapshot = null;
+        if (snapshot != null) {
+            logger.info("Writing the address book again after its last write failed");
+            storage.saveAddressBook(snapshot);
+        }
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+            failedSnapshot = null;
+        } catch (IOException e) {
+            logger.warning("Failed to write address book: " + StringUtil.getDetails(e));
+            failedSnapshot = snapshot;
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} that later changes to it cannot affect.
+     * The copy only holds lists, without the indexes and uniqueness checks of an {@code AddressBook}, since it is
+     * taken on the caller's thread and the lists are already known to be valid. Contracts and appointments are
+     * immutable and are shared; contacts and policies hold mutable contract sets and are copied.
+     */
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        List<Contact> contacts = addressBook.getContactList().stream()
+                .map(c -> new Contact(c.getName(), c.getPhone(), c.getNric(), c.getEmail(), c.getAddress(),
+                        c.getTags(), c.getContracts()))
+                .toList();
+        List<Policy> policies = addressBook.getPolicyList().stream()
+                .map(p -> new Policy(p.getName(), p.getDetails(), p.getId(), p.getContracts()))
+                .toList();
+        return new Snapshot(contacts, policies, List.copyOf(addressBook.getContractList()),
+                List.copyOf(addressBook.getAppointmentList()));
+    }
+
+    /**
+     * An address book over lists that cannot change.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Contact> contacts;
+        private final ObservableList<Policy> policies;
+        private final ObservableList<Contract> contracts;
+        private final ObservableList<Appointment> appointments;
+
+        Snapshot(List<Contact> contacts, List<Policy> policies, List<Contract> contracts,
+                 List<Appointment> appointments) {
+            this.contacts = toObservableList(contacts);
+            this.policies = toObservableList(policies);
+            this.contracts = toObservableList(contracts);
+            this.appointments = toObservableList(appointments);
+        }
+
+        private static <T> ObservableList<T> toObservableList(List<T> list) {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(list));
+        }
+
+        @Override
+        public ObservableList<Contact> getContactList() {
+            return contacts;
+        }
+
+        @Override
+        public ObservableList<Policy> getPolicyList() {
+            return policies;
+        }
+
+        @Override
+        public ObservableList<Contract> getContractList() {
+            return contracts;
+        }
+
+        @Override
+        public ObservableList<Appointment> getAppointmentList() {
+            return appointments;
+        }
+    }
+}
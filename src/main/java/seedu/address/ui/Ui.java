@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code message} to the user. Must be called on the JavaFX application thread. */
+    void showFeedback(String message);
+
 }
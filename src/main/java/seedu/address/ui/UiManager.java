@@ -50,6 +50,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showFeedback(String message) {
+        if (mainWindow != null) {
+            mainWindow.showFeedback(message);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
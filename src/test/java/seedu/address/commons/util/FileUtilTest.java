@@ -1,13 +1,30 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +37,78 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_everyDurability_contentWritten() throws Exception {
+        for (SaveDurability durability : SaveDurability.values()) {
+            Path file = testFolder.resolve("sub").resolve(durability + ".txt");
+
+            FileUtil.writeAtomically(file, out -> out.write(durability.name().getBytes(StandardCharsets.UTF_8)),
+                    durability);
+
+            assertEquals(durability.name(), Files.readString(file));
+        }
+        assertEquals(SaveDurability.values().length, countFiles(testFolder.resolve("sub")));
+    }
+
+    @Test
+    public void writeAtomically_writerClosesStream_contentWritten() throws Exception {
+        Path file = testFolder.resolve("closed.txt");
+
+        FileUtil.writeAtomically(file, out -> {
+            out.write("closed".getBytes(StandardCharsets.UTF_8));
+            out.close();
+        }, SaveDurability.FSYNC_FILE);
+
+        assertEquals("closed", Files.readString(file));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchangedAndNoTempFileLeft() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        Files.writeString(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }, SaveDurability.NONE));
+
+        assertEquals("original", Files.readString(file));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    @Test
+    public void writeChannelAtomically_writtenOutOfOrder_contentWritten() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        Files.writeString(file, "original");
+
+        FileUtil.writeChannelAtomically(file, channel -> {
+            channel.write(ByteBuffer.wrap("body".getBytes(StandardCharsets.UTF_8)), 4);
+            channel.write(ByteBuffer.wrap("head".getBytes(StandardCharsets.UTF_8)), 0);
+        }, SaveDurability.FSYNC_FILE_AND_DIR);
+
+        assertEquals("headbody", Files.readString(file));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_permissionsKept() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        Files.writeString(file, "original");
+        assumeTrue(Files.getFileStore(file).supportsFileAttributeView(PosixFileAttributeView.class));
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-rw-r--");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeAtomically(file, out -> out.write("replaced".getBytes(StandardCharsets.UTF_8)),
+                SaveDurability.NONE);
+
+        assertEquals("replaced", Files.readString(file));
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
 }
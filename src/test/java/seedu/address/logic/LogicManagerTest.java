@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -12,9 +13,11 @@ import static seedu.address.logic.parser.CliSyntax.FLAG_LIST_ALL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalData.getAmy;
+import static seedu.address.testutil.TypicalData.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +37,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.contact.Contact;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ProgressiveAddressBookReader;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.ContactBuilder;
 
@@ -88,6 +92,83 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("ReadOnlyCommand.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ReadOnlyCommandPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        String viewCommand = ViewContractCommand.COMMAND_WORD + " " + FLAG_LIST_ALL;
+        assertCommandSuccess(viewCommand, ViewContractCommand.MESSAGE_SUCCESS_ALL, model);
+    }
+
+    @Test
+    public void execute_addressBookMarkedUnsaved_savesAgain() throws Exception {
+        Path filePath = temporaryFolder.resolve("Unsaved.json");
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("UnsavedPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(new JsonAddressBookStorage(filePath), userPrefsStorage));
+
+        logic.markAddressBookUnsaved();
+        logic.execute(ViewContractCommand.COMMAND_WORD + " " + FLAG_LIST_ALL);
+
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void execute_modifyingCommandOnReadOnlyModel_throwsCommandException() {
+        model = ModelManager.readOnly(getTypicalAddressBook(), new UserPrefs());
+        logic = new LogicManager(model, new StorageManager(new JsonAddressBookStorage(
+                temporaryFolder.resolve("ReadOnly.json")), new JsonUserPrefsStorage(
+                temporaryFolder.resolve("ReadOnlyPrefs.json"))));
+
+        String addContactCommand = AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + NRIC_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        assertCommandException(addContactCommand, LogicManager.MESSAGE_READ_ONLY);
+    }
+
+    @Test
+    public void execute_viewCommandOnReadOnlyModel_success() throws Exception {
+        model = ModelManager.readOnly(getTypicalAddressBook(), new UserPrefs());
+        logic = new LogicManager(model, new StorageManager(new JsonAddressBookStorage(
+                temporaryFolder.resolve("ReadOnly.json")), new JsonUserPrefsStorage(
+                temporaryFolder.resolve("ReadOnlyPrefs.json"))));
+
+        String viewCommand = ViewContractCommand.COMMAND_WORD + " " + FLAG_LIST_ALL;
+        assertCommandSuccess(viewCommand, ViewContractCommand.MESSAGE_SUCCESS_ALL, model);
+    }
+
+    @Test
+    public void execute_progressiveLoadRunning_commandWaitsAndDoesNotSave() throws Exception {
+        Path filePath = temporaryFolder.resolve("Progressive.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ProgressivePrefs.json"));
+        ProgressiveAddressBookReader reader = new ProgressiveAddressBookReader(filePath);
+        model = new ModelManager(reader.readContactsAndPolicies().get(), new UserPrefs());
+        ProgressiveLoad progressiveLoad = new ProgressiveLoad(model, reader, unused -> {});
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage), progressiveLoad);
+        progressiveLoad.start();
+
+        logic.execute(ViewContractCommand.COMMAND_WORD + " " + FLAG_LIST_ALL);
+
+        assertTrue(progressiveLoad.isComplete());
+        assertEquals(getTypicalAddressBook().getContractList(), model.getAddressBook().getContractList());
+    }
+
     @Test
     public void getFilteredContactList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredContactList().remove(0));
@@ -0,0 +1,140 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalData.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.ProgressiveAddressBookReader;
+
+public class ProgressiveLoadTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void awaitCompletion_typicalFile_sameDataAsFullLoad() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        ProgressiveAddressBookReader reader = new ProgressiveAddressBookReader(filePath);
+        Model model = new ModelManager(reader.readContactsAndPolicies().get(), new UserPrefs());
+
+        // The UI thread never gets to the queued chunks, so awaitCompletion must append them itself.
+        ProgressiveLoad progressiveLoad = new ProgressiveLoad(model, reader, unused -> {});
+        progressiveLoad.start();
+        assertFalse(progressiveLoad.isComplete());
+        progressiveLoad.awaitCompletion();
+
+        assertTrue(progressiveLoad.isComplete());
+        assertEquals("", progressiveLoad.statusProperty().get());
+        assertSameData(original, model.getAddressBook());
+    }
+
+    @Test
+    public void start_uiThreadRunsChunks_sameDataAsFullLoad() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        ProgressiveAddressBookReader reader = new ProgressiveAddressBookReader(filePath);
+        Model model = new ModelManager(reader.readContactsAndPolicies().get(), new UserPrefs());
+
+        List<Runnable> uiTasks = new ArrayList<>();
+        ProgressiveLoad progressiveLoad = new ProgressiveLoad(model, reader, task -> {
+            synchronized (uiTasks) {
+                uiTasks.add(task);
+            }
+        });
+        progressiveLoad.start();
+        while (!progressiveLoad.isComplete()) {
+            List<Runnable> tasks;
+            synchronized (uiTasks) {
+                tasks = new ArrayList<>(uiTasks);
+                uiTasks.clear();
+            }
+            tasks.forEach(Runnable::run);
+            Thread.sleep(1);
+        }
+
+        assertSameData(original, model.getAddressBook());
+    }
+
+    @Test
+    public void awaitCompletion_duplicateContracts_emptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        writeWithDuplicateContract(filePath);
+        ProgressiveAddressBookReader reader = new ProgressiveAddressBookReader(filePath);
+        Model model = new ModelManager(reader.readContactsAndPolicies().get(), new UserPrefs());
+
+        ProgressiveLoad progressiveLoad = new ProgressiveLoad(model, reader, unused -> {});
+        progressiveLoad.start();
+        progressiveLoad.awaitCompletion();
+
+        assertEquals(ProgressiveLoad.MESSAGE_LOAD_FAILED, progressiveLoad.statusProperty().get());
+        assertSameData(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void readRemainingData_duplicateContracts_stopsReading() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        writeWithDuplicateContract(filePath);
+        ProgressiveAddressBookReader reader = new ProgressiveAddressBookReader(filePath);
+        Model model = new ModelManager(reader.readContactsAndPolicies().get(), new UserPrefs());
+
+        // Each chunk is appended as soon as it is posted, so loading fails on the first chunk, before the
+        // appointments are read.
+        List<Runnable> uiTasks = new ArrayList<>();
+        ProgressiveLoad progressiveLoad = new ProgressiveLoad(model, reader, task -> {
+            uiTasks.add(task);
+            task.run();
+        });
+        progressiveLoad.readRemainingData();
+
+        assertEquals(ProgressiveLoad.MESSAGE_LOAD_FAILED, progressiveLoad.statusProperty().get());
+        assertEquals(1, uiTasks.size());
+    }
+
+    /**
+     * Rewrites the address book file at {@code filePath} with its first contract repeated.
+     */
+    private static void writeWithDuplicateContract(Path filePath) throws Exception {
+        String json = Files.readString(filePath);
+        int contractsStart = json.indexOf('[', json.indexOf("\"contracts\""));
+        int firstContractEnd = json.indexOf('}', contractsStart) + 1;
+        String firstContract = json.substring(contractsStart + 1, firstContractEnd);
+        Files.writeString(filePath, json.substring(0, firstContractEnd) + "," + firstContract
+                + json.substring(firstContractEnd));
+    }
+
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getContactList(), actual.getContactList());
+        assertEquals(expected.getPolicyList(), actual.getPolicyList());
+        assertEquals(expected.getContractList(), actual.getContractList());
+        assertEquals(expected.getAppointmentList(), actual.getAppointmentList());
+        for (int i = 0; i < expected.getContactList().size(); i++) {
+            assertEquals(expected.getContactList().get(i).getContracts(),
+                    actual.getContactList().get(i).getContracts());
+        }
+        for (int i = 0; i < expected.getPolicyList().size(); i++) {
+            assertEquals(expected.getPolicyList().get(i).getContracts(),
+                    actual.getPolicyList().get(i).getContracts());
+        }
+    }
+}
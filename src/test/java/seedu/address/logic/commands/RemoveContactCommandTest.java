@@ -129,6 +129,7 @@ public class RemoveContactCommandTest {
         model.updateFilteredContactList(PREDICATE_SHOW_ALL_CONTACTS);
         Contact contact = model.getFilteredContactList().get(INDEX_THIRD_CONTACT.getZeroBased());
         Contract contractsToRemove = (Contract) contact.getContracts().toArray()[0];
+        model.removeContract(contractsToRemove);
         contact.removeContract(contractsToRemove);
 
         model.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
@@ -9,8 +9,11 @@ import static seedu.address.testutil.TypicalData.getAppointmentB;
 import static seedu.address.testutil.TypicalData.getAppointmentC;
 import static seedu.address.testutil.TypicalData.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,7 +21,10 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentComparatorType;
 import seedu.address.model.appointment.AppointmentIdContainsKeywordsPredicate;
+import seedu.address.testutil.AppointmentBuilder;
 import seedu.address.ui.ListPanelType;
 
 /**
@@ -41,6 +47,74 @@ public class ViewAppointmentCommandTest {
                 ListPanelType.APPOINTMENT, expectedModel);
     }
 
+    @Test
+    public void execute_dateRange_showsAppointmentsInRange() {
+        LocalDate from = LocalDate.parse("2024-01-01");
+        LocalDate to = LocalDate.parse("2025-12-31");
+        String expectedMessage = String.format(ViewAppointmentCommand.MESSAGE_SUCCESS_RANGE, 2, from, to);
+        expectedModel.updateFilteredAppointmentList(a -> !a.getDate().isBefore(from) && !a.getDate().isAfter(to));
+        assertCommandSuccess(new ViewAppointmentCommand(from, to), model, expectedMessage,
+                ListPanelType.APPOINTMENT, expectedModel);
+        assertEquals(Arrays.asList(getAppointmentA(), getAppointmentC()), model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void execute_upcoming_showsNextAppointmentsFromToday() {
+        Appointment upcoming = new AppointmentBuilder().withId("U1234A")
+                .withDate(LocalDate.now().plusDays(1)).build();
+        model.addAppointment(upcoming);
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(ViewAppointmentCommand.MESSAGE_SUCCESS_UPCOMING, 1);
+        expectedModel.updateFilteredAppointmentList(upcoming::equals);
+        assertCommandSuccess(new ViewAppointmentCommand(3), model, expectedMessage, ListPanelType.APPOINTMENT,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_upcoming_showsAppointmentsOrderedByDate() {
+        Appointment later = new AppointmentBuilder().withId("U1234B")
+                .withDate(LocalDate.now().plusDays(2)).build();
+        Appointment sooner = new AppointmentBuilder().withId("U1234A")
+                .withDate(LocalDate.now().plusDays(1)).build();
+        model.addAppointment(later);
+        model.addAppointment(sooner);
+
+        new ViewAppointmentCommand(3).execute(model);
+
+        assertEquals(Arrays.asList(sooner, later), model.getSortedAppointmentList());
+    }
+
+    @Test
+    public void execute_upcomingAfterSort_keepsChosenSort() {
+        Appointment later = new AppointmentBuilder().withId("U1234B")
+                .withDate(LocalDate.now().plusDays(2)).build();
+        Appointment sooner = new AppointmentBuilder().withId("U1234A")
+                .withDate(LocalDate.now().plusDays(1)).build();
+        model.addAppointment(sooner);
+        model.addAppointment(later);
+        model.sortAppointments(AppointmentComparatorType.DATE_DESCENDING.comparator);
+
+        new ViewAppointmentCommand(3).execute(model);
+        assertEquals(Arrays.asList(later, sooner), model.getSortedAppointmentList());
+
+        new ViewAppointmentCommand().execute(model);
+        List<Appointment> expected = new ArrayList<>(model.getFilteredAppointmentList());
+        expected.sort(AppointmentComparatorType.DATE_DESCENDING.comparator);
+        assertEquals(expected, model.getSortedAppointmentList());
+    }
+
+    @Test
+    public void equals_dateRangeAndUpcoming() {
+        LocalDate from = LocalDate.parse("2024-01-01");
+        LocalDate to = LocalDate.parse("2025-12-31");
+        assertTrue(new ViewAppointmentCommand(from, to).equals(new ViewAppointmentCommand(from, to)));
+        assertFalse(new ViewAppointmentCommand(from, to).equals(new ViewAppointmentCommand(from, from)));
+        assertTrue(new ViewAppointmentCommand(3).equals(new ViewAppointmentCommand(3)));
+        assertFalse(new ViewAppointmentCommand(3).equals(new ViewAppointmentCommand(4)));
+        assertFalse(new ViewAppointmentCommand(3).equals(new ViewAppointmentCommand()));
+    }
+
     @Test
     public void equals() {
         AppointmentIdContainsKeywordsPredicate firstPredicate =
@@ -104,8 +178,18 @@ public class ViewAppointmentCommandTest {
         AppointmentIdContainsKeywordsPredicate predicate =
                 new AppointmentIdContainsKeywordsPredicate(Arrays.asList("abcdef"));
         ViewAppointmentCommand viewAppointmentCommand = new ViewAppointmentCommand(predicate);
-        String expected = ViewAppointmentCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = ViewAppointmentCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", from=null, to=null, upcomingCount=null}";
         assertEquals(expected, viewAppointmentCommand.toString());
+
+        LocalDate from = LocalDate.parse("2024-01-01");
+        LocalDate to = LocalDate.parse("2025-12-31");
+        assertEquals(ViewAppointmentCommand.class.getCanonicalName()
+                + "{predicate=null, from=2024-01-01, to=2025-12-31, upcomingCount=null}",
+                new ViewAppointmentCommand(from, to).toString());
+        assertEquals(ViewAppointmentCommand.class.getCanonicalName()
+                + "{predicate=null, from=null, to=null, upcomingCount=3}",
+                new ViewAppointmentCommand(3).toString());
     }
 
     /**
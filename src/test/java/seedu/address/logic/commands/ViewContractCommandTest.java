@@ -9,8 +9,10 @@ import static seedu.address.testutil.TypicalData.getContractB;
 import static seedu.address.testutil.TypicalData.getContractC;
 import static seedu.address.testutil.TypicalData.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,7 +20,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.contract.Contract;
 import seedu.address.model.contract.ContractIdContainsKeywordsPredicate;
+import seedu.address.testutil.ContractBuilder;
 import seedu.address.ui.ListPanelType;
 
 /**
@@ -99,6 +103,32 @@ public class ViewContractCommandTest {
         assertEquals(Arrays.asList(getContractA(), getContractB(), getContractC()), model.getFilteredContractList());
     }
 
+    @Test
+    public void execute_expiringWithinDays_showsOnlyContractsExpiringInRange() {
+        LocalDate today = LocalDate.now();
+        Contract expiringSoon = new ContractBuilder(getContractA()).withCId("C9999A").withPolicyId("zz9999")
+                .withDate(today.minusYears(1)).withExpiryDate(today.plusDays(10)).build();
+        Contract expiringLater = new ContractBuilder(getContractB()).withCId("C9999B").withPolicyId("zz9998")
+                .withDate(today.minusYears(1)).withExpiryDate(today.plusDays(40)).build();
+        model.addContract(expiringSoon);
+        model.addContract(expiringLater);
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(ViewContractCommand.MESSAGE_SUCCESS_EXPIRING, 1, 30);
+        expectedModel.updateFilteredContractList(expiringSoon::equals);
+        assertCommandSuccess(new ViewContractCommand(30), model, expectedMessage, ListPanelType.CONTRACT,
+                expectedModel);
+        assertEquals(List.of(expiringSoon), model.getFilteredContractList());
+    }
+
+    @Test
+    public void equals_expiringWithinDays() {
+        ViewContractCommand viewExpiringCommand = new ViewContractCommand(30);
+        assertTrue(viewExpiringCommand.equals(new ViewContractCommand(30)));
+        assertFalse(viewExpiringCommand.equals(new ViewContractCommand(7)));
+        assertFalse(viewExpiringCommand.equals(new ViewContractCommand()));
+    }
+
     private ContractIdContainsKeywordsPredicate preparePredicate(String userInput) {
         return new ContractIdContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
     }
@@ -2,10 +2,13 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.FLAG_LIST_ALL;
+import static seedu.address.logic.parser.CliSyntax.FLAG_UPCOMING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_AID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
@@ -51,4 +54,33 @@ public class ViewAppointmentCommandParserTest {
         assertParseSuccess(parser, FLAG_LIST_ALL, expectedViewAppointmentCommand);
         assertParseSuccess(parser, FLAG_LIST_ALL + " nonsense", expectedViewAppointmentCommand);
     }
+
+    @Test
+    public void parse_dateRange_returnsViewAppointmentCommand() {
+        ViewAppointmentCommand expectedCommand = new ViewAppointmentCommand(
+                LocalDate.parse("2025-01-01"), LocalDate.parse("2025-01-31"));
+        assertParseSuccess(parser, " " + PREFIX_DATE + "2025-01-01 2025-01-31", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidDateRange_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_DATE + "2025-01-31 2025-01-01",
+                ViewAppointmentCommandParser.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " " + PREFIX_DATE + "2025-01-31",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewAppointmentCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_upcoming_returnsViewAppointmentCommand() {
+        assertParseSuccess(parser, " " + FLAG_UPCOMING + " 5", new ViewAppointmentCommand(5));
+        assertParseFailure(parser, " " + FLAG_UPCOMING + " 0", ParserUtil.MESSAGE_INVALID_POSITIVE_INTEGER);
+    }
+
+    @Test
+    public void parse_upcomingFlagNotSeparateWord_throwsParseException() {
+        assertParseFailure(parser, " " + FLAG_UPCOMING + "5",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewAppointmentCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + FLAG_UPCOMING + "abc",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewAppointmentCommand.MESSAGE_USAGE));
+    }
 }
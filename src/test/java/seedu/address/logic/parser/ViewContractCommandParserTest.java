@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.FLAG_LIST_ALL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPIRY;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -47,4 +48,15 @@ public class ViewContractCommandParserTest {
         assertParseSuccess(parser, " " + FLAG_LIST_ALL, expectedViewContractcommand);
         assertParseSuccess(parser, FLAG_LIST_ALL + " nonsense", expectedViewContractcommand);
     }
+
+    @Test
+    public void parse_expiryDays_returnsViewContractCommand() {
+        assertParseSuccess(parser, " " + PREFIX_EXPIRY + "30", new ViewContractCommand(30));
+    }
+
+    @Test
+    public void parse_invalidExpiryDays_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_EXPIRY + "0", ParserUtil.MESSAGE_INVALID_POSITIVE_INTEGER);
+        assertParseFailure(parser, " " + PREFIX_EXPIRY + "abc", ParserUtil.MESSAGE_INVALID_POSITIVE_INTEGER);
+    }
 }
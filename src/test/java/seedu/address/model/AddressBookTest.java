@@ -30,6 +30,7 @@ import seedu.address.model.policy.Policy;
 import seedu.address.model.policy.PolicyDetails;
 import seedu.address.model.policy.PolicyId;
 import seedu.address.model.policy.PolicyName;
+import seedu.address.model.policy.exceptions.DuplicatePolicyException;
 import seedu.address.testutil.ContactBuilder;
 import seedu.address.testutil.TypicalData;
 
@@ -67,6 +68,39 @@ public class AddressBookTest {
         assertThrows(DuplicateContactException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void loadData_validLists_replacesData() {
+        AddressBook typical = getTypicalAddressBook();
+        addressBook.loadData(typical.getContactList(), typical.getPolicyList(), typical.getContractList(),
+                typical.getAppointmentList());
+        assertEquals(typical, addressBook);
+        assertEquals(typical.getPolicyList(), addressBook.getPolicyList());
+        assertEquals(typical.getContractList(), addressBook.getContractList());
+        assertEquals(typical.getAppointmentList(), addressBook.getAppointmentList());
+    }
+
+    @Test
+    public void loadData_duplicatePolicyFields_throwsDuplicatePolicyException() {
+        Policy policy = getLife();
+        Policy sameFields = new Policy(policy.getName(), policy.getDetails(), new PolicyId("zz9999"));
+        assertThrows(DuplicatePolicyException.class, () -> addressBook.loadData(Collections.emptyList(),
+                Arrays.asList(policy, sameFields), Collections.emptyList(), Collections.emptyList()));
+    }
+
+    @Test
+    public void getVersion_modifications_increasesVersion() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.hasContact(getAlice());
+        assertEquals(initialVersion, addressBook.getVersion());
+
+        addressBook.addContact(getAlice());
+        long afterAdd = addressBook.getVersion();
+        assertTrue(afterAdd > initialVersion);
+
+        addressBook.removeContact(getAlice());
+        assertTrue(addressBook.getVersion() > afterAdd);
+    }
+
     @Test
     public void hasContact_nullContact_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasContact((Contact) null));
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.PolicyCommandTestUtil.VALID_POLICY_ID_HEALTH_B;
 import static seedu.address.logic.commands.PolicyCommandTestUtil.VALID_POLICY_ID_HOME;
@@ -300,6 +301,26 @@ public class ModelManagerTest {
                 modelManager.updateFilteredAppointmentList(null));
     }
 
+    @Test
+    public void readOnly_addressBookNotCopied() {
+        AddressBook addressBook = new AddressBookBuilder().withContact(getAlice()).build();
+        ModelManager readOnlyModel = ModelManager.readOnly(addressBook, new UserPrefs());
+
+        assertTrue(readOnlyModel.isAddressBookReadOnly());
+        assertSame(addressBook, readOnlyModel.getAddressBook());
+        assertTrue(readOnlyModel.hasContact(getAlice()));
+        assertEquals(addressBook.getContactList(), readOnlyModel.getFilteredContactList());
+    }
+
+    @Test
+    public void readOnly_modifyAddressBook_throwsUnsupportedOperationException() {
+        ModelManager readOnlyModel = ModelManager.readOnly(new AddressBook(), new UserPrefs());
+
+        assertFalse(modelManager.isAddressBookReadOnly());
+        assertThrows(UnsupportedOperationException.class, () -> readOnlyModel.addContact(getAlice()));
+        assertThrows(UnsupportedOperationException.class, () -> readOnlyModel.setAddressBook(new AddressBook()));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withContact(getAlice()).withContact(getBenson()).build();
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
@@ -13,6 +14,7 @@ import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.Name;
 import seedu.address.model.contact.Nric;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractId;
 import seedu.address.model.policy.Policy;
 import seedu.address.model.policy.PolicyId;
 
@@ -65,6 +67,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isAddressBookReadOnly() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void appendLoadedData(List<Contract> contracts, List<Appointment> appointments) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasContact(Contact contact) {
         throw new AssertionError("This method should not be called.");
@@ -80,6 +97,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Contact getContact(Nric nric) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deleteContact(Contact target) {
         throw new AssertionError("This method should not be called.");
@@ -214,6 +236,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Appointment> getAppointments(Nric nric) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Appointment> getAppointmentsBetween(LocalDate from, LocalDate to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Appointment> getUpcomingAppointments(LocalDate from, int count) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void removeAppointment(Appointment target) {
         throw new AssertionError("This method should not be called.");
@@ -249,6 +286,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void showAppointments(List<Appointment> appointments) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void sortAppointments(Comparator<Appointment> comparator) {
         throw new AssertionError("This method should not be called.");
@@ -269,6 +311,26 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Contract getContract(ContractId contractId) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Contract> getContracts(Nric nric) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Contract> getContracts(PolicyId policyId) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Contract> getContractsExpiringBetween(LocalDate from, LocalDate to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean contactHasContract(Contract contract, Contact contact) {
         throw new AssertionError("This method should not be called.");
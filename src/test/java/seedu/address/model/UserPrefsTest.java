@@ -18,4 +18,11 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookCompressionLevel_invalidLevel_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setAddressBookCompressionLevel(-2));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setAddressBookCompressionLevel(10));
+    }
+
 }
@@ -2,15 +2,21 @@ package seedu.address.model.appointment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalData.getAppointmentA;
 import static seedu.address.testutil.TypicalData.getAppointmentB;
+import static seedu.address.testutil.TypicalData.getAppointmentE;
+
+import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.testutil.AppointmentBuilder;
 
 public class UniqueAppointmentListTest {
 
@@ -32,6 +38,165 @@ public class UniqueAppointmentListTest {
         assertTrue(uniqueAppointmentList.contains(getAppointmentA()));
     }
 
+    @Test
+    public void getAppointment_appointmentInList_returnsAppointment() {
+        uniqueAppointmentList.add(getAppointmentA());
+        assertEquals(getAppointmentA(), uniqueAppointmentList.getAppointment(getAppointmentA().getAId()));
+    }
+
+    @Test
+    public void getAppointment_appointmentNotInList_returnsNull() {
+        uniqueAppointmentList.add(getAppointmentA());
+        assertNull(uniqueAppointmentList.getAppointment(getAppointmentB().getAId()));
+    }
+
+    @Test
+    public void hasAppointment_afterEditAndRemove_reflectsChanges() {
+        uniqueAppointmentList.add(getAppointmentA());
+        uniqueAppointmentList.setAppointment(getAppointmentA(), getAppointmentB());
+        assertFalse(uniqueAppointmentList.hasAppointment(getAppointmentA().getAId()));
+        assertTrue(uniqueAppointmentList.hasAppointment(getAppointmentB().getAId()));
+        uniqueAppointmentList.remove(getAppointmentB());
+        assertFalse(uniqueAppointmentList.hasAppointment(getAppointmentB().getAId()));
+    }
+
+    @Test
+    public void getAppointments_contactWithoutAppointments_returnsEmptyList() {
+        uniqueAppointmentList.add(getAppointmentA());
+        assertTrue(uniqueAppointmentList.getAppointments(getAppointmentB().getNric()).isEmpty());
+    }
+
+    @Test
+    public void getAppointments_afterEdit_movesAppointmentToNewContact() {
+        uniqueAppointmentList.add(getAppointmentA());
+        assertEquals(List.of(getAppointmentA()), uniqueAppointmentList.getAppointments(getAppointmentA().getNric()));
+
+        Appointment editedAppointment = new AppointmentBuilder(getAppointmentA())
+                .withNric(getAppointmentB().getNric().toString()).build();
+        uniqueAppointmentList.setAppointment(getAppointmentA(), editedAppointment);
+        assertTrue(uniqueAppointmentList.getAppointments(getAppointmentA().getNric()).isEmpty());
+        assertEquals(List.of(editedAppointment), uniqueAppointmentList.getAppointments(getAppointmentB().getNric()));
+
+        uniqueAppointmentList.remove(editedAppointment);
+        assertTrue(uniqueAppointmentList.getAppointments(getAppointmentB().getNric()).isEmpty());
+    }
+
+    @Test
+    public void getAppointmentsBetween_rangeQuery_returnsAppointmentsInDateOrder() {
+        uniqueAppointmentList.add(getAppointmentA());
+        uniqueAppointmentList.add(getAppointmentB());
+        assertEquals(List.of(getAppointmentB(), getAppointmentA()), uniqueAppointmentList.getAppointmentsBetween(
+                getAppointmentB().getDate(), getAppointmentA().getDate()));
+        assertEquals(List.of(getAppointmentA()), uniqueAppointmentList.getAppointmentsBetween(
+                getAppointmentA().getDate(), getAppointmentA().getDate()));
+        assertTrue(uniqueAppointmentList.getAppointmentsBetween(
+                getAppointmentA().getDate(), getAppointmentB().getDate()).isEmpty());
+    }
+
+    @Test
+    public void getUpcomingAppointments_limitsCountInDateOrder() {
+        uniqueAppointmentList.add(getAppointmentA());
+        uniqueAppointmentList.add(getAppointmentB());
+        assertEquals(List.of(getAppointmentB()),
+                uniqueAppointmentList.getUpcomingAppointments(getAppointmentB().getDate(), 1));
+        assertEquals(List.of(getAppointmentA()),
+                uniqueAppointmentList.getUpcomingAppointments(getAppointmentB().getDate().plusDays(1), 5));
+    }
+
+    @Test
+    public void getAppointment_appointmentsSharingId_earliestRemainingReturned() {
+        Appointment sharingId = new AppointmentBuilder(getAppointmentB())
+                .withId(getAppointmentA().getAId().toString()).build();
+        uniqueAppointmentList.add(getAppointmentA());
+        uniqueAppointmentList.add(sharingId);
+        assertEquals(getAppointmentA(), uniqueAppointmentList.getAppointment(getAppointmentA().getAId()));
+
+        uniqueAppointmentList.remove(getAppointmentA());
+        assertEquals(sharingId, uniqueAppointmentList.getAppointment(getAppointmentA().getAId()));
+
+        uniqueAppointmentList.setAppointment(sharingId, getAppointmentB());
+        assertFalse(uniqueAppointmentList.hasAppointment(getAppointmentA().getAId()));
+        assertEquals(getAppointmentB(), uniqueAppointmentList.getAppointment(getAppointmentB().getAId()));
+    }
+
+    @Test
+    public void getAppointmentsBetween_afterEditAndRemove_reflectsChanges() {
+        uniqueAppointmentList.add(getAppointmentA());
+        LocalDate date = getAppointmentA().getDate();
+        Appointment postponed = new AppointmentBuilder(getAppointmentA()).withDate(date.plusDays(7)).build();
+
+        uniqueAppointmentList.setAppointment(getAppointmentA(), postponed);
+        assertTrue(uniqueAppointmentList.getAppointmentsBetween(date, date).isEmpty());
+        assertEquals(List.of(postponed), uniqueAppointmentList.getUpcomingAppointments(date, 5));
+
+        uniqueAppointmentList.remove(postponed);
+        assertTrue(uniqueAppointmentList.getUpcomingAppointments(date, 5).isEmpty());
+    }
+
+    @Test
+    public void setAppointments_list_reindexesAllLookups() {
+        uniqueAppointmentList.add(getAppointmentA());
+        uniqueAppointmentList.setAppointments(List.of(getAppointmentB(), getAppointmentE()));
+        assertIndexedOnly(List.of(getAppointmentB(), getAppointmentE()), List.of(getAppointmentA()));
+    }
+
+    @Test
+    public void setAppointments_uniqueAppointmentList_reindexesAllLookups() {
+        uniqueAppointmentList.add(getAppointmentA());
+        UniqueAppointmentList replacement = new UniqueAppointmentList();
+        replacement.add(getAppointmentB());
+        replacement.add(getAppointmentE());
+        uniqueAppointmentList.setAppointments(replacement);
+        assertIndexedOnly(List.of(getAppointmentB(), getAppointmentE()), List.of(getAppointmentA()));
+    }
+
+    @Test
+    public void addAll_appointmentAlreadyInList_throwsDuplicateAppointmentExceptionAndKeepsList() {
+        uniqueAppointmentList.add(getAppointmentA());
+        assertThrows(DuplicateAppointmentException.class, () ->
+                uniqueAppointmentList.addAll(List.of(getAppointmentB(), getAppointmentA())));
+        assertIndexedOnly(List.of(getAppointmentA()), List.of(getAppointmentB()));
+    }
+
+    @Test
+    public void addAll_listWithDuplicateAppointments_throwsDuplicateAppointmentException() {
+        assertThrows(DuplicateAppointmentException.class, () ->
+                uniqueAppointmentList.addAll(List.of(getAppointmentA(), getAppointmentB(), getAppointmentA())));
+        assertTrue(uniqueAppointmentList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void addAll_uniqueAppointments_indexesAll() {
+        uniqueAppointmentList.add(getAppointmentA());
+        uniqueAppointmentList.addAll(List.of(getAppointmentB(), getAppointmentE()));
+        assertIndexedOnly(List.of(getAppointmentA(), getAppointmentB(), getAppointmentE()), List.of());
+    }
+
+    @Test
+    public void setAppointments_listWithSameIdentityOtherId_throwsDuplicateAppointmentExceptionAndKeepsList() {
+        uniqueAppointmentList.add(getAppointmentA());
+        Appointment sameIdentity = new AppointmentBuilder(getAppointmentA()).withId("Z9999Z").build();
+        assertThrows(DuplicateAppointmentException.class, () ->
+                uniqueAppointmentList.setAppointments(List.of(getAppointmentA(), getAppointmentB(), sameIdentity)));
+        assertIndexedOnly(List.of(getAppointmentA()), List.of(getAppointmentB()));
+    }
+
+    @Test
+    public void setAppointments_listWithAppointmentsDifferingOnlyInDetails_success() {
+        Appointment otherDetails = new AppointmentBuilder(getAppointmentA()).withDetails("Follow-up").build();
+        uniqueAppointmentList.setAppointments(List.of(getAppointmentA(), otherDetails));
+        assertEquals(List.of(getAppointmentA(), otherDetails), uniqueAppointmentList.asUnmodifiableObservableList());
+        assertEquals(List.of(getAppointmentA(), otherDetails),
+                uniqueAppointmentList.getAppointments(getAppointmentA().getNric()));
+    }
+
+    @Test
+    public void add_sameIdentityOtherId_throwsDuplicateAppointmentException() {
+        uniqueAppointmentList.add(getAppointmentA());
+        Appointment sameIdentity = new AppointmentBuilder(getAppointmentA()).withId("Z9999Z").build();
+        assertThrows(DuplicateAppointmentException.class, () -> uniqueAppointmentList.add(sameIdentity));
+    }
+
     @Test
     public void add_nullAppointment_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueAppointmentList.add(null));
@@ -147,6 +312,8 @@ public class UniqueAppointmentListTest {
         java.util.List<Appointment> appointmentList = java.util.List.of(getAppointmentB());
         uniqueAppointmentList.setAppointments(appointmentList);
         UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
+        expectedUniqueAppointmentList.add(getAppointmentB());
+        assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
     }
 
     @Test
@@ -216,4 +383,26 @@ public class UniqueAppointmentListTest {
         String expected = "[" + getAppointmentA().toString() + "]";
         assertEquals(expected, anotherList.toString());
     }
+
+    /**
+     * Asserts that the list holds exactly {@code expected} and that every lookup finds those appointments and none
+     * of {@code absent}.
+     */
+    private void assertIndexedOnly(List<Appointment> expected, List<Appointment> absent) {
+        assertEquals(expected, uniqueAppointmentList.asUnmodifiableObservableList());
+        for (Appointment appointment : expected) {
+            assertEquals(appointment, uniqueAppointmentList.getAppointment(appointment.getAId()));
+            assertTrue(uniqueAppointmentList.getAppointments(appointment.getNric()).contains(appointment));
+            assertTrue(uniqueAppointmentList.getAppointmentsBetween(appointment.getDate(), appointment.getDate())
+                    .contains(appointment));
+            assertTrue(uniqueAppointmentList.contains(appointment));
+        }
+        for (Appointment appointment : absent) {
+            assertFalse(uniqueAppointmentList.hasAppointment(appointment.getAId()));
+            assertFalse(uniqueAppointmentList.getAppointments(appointment.getNric()).contains(appointment));
+            assertFalse(uniqueAppointmentList.getAppointmentsBetween(appointment.getDate(), appointment.getDate())
+                    .contains(appointment));
+            assertFalse(uniqueAppointmentList.contains(appointment));
+        }
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.contact;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -47,6 +48,19 @@ public class UniqueContactListTest {
         assertTrue(uniqueContactList.contains(editedAlice));
     }
 
+    @Test
+    public void getContact_contactInList_returnsContact() {
+        uniqueContactList.add(getAlice());
+        uniqueContactList.add(getBob());
+        assertEquals(getBob(), uniqueContactList.getContact(getBob().getNric()));
+    }
+
+    @Test
+    public void getContact_contactNotInList_returnsNull() {
+        uniqueContactList.add(getAlice());
+        assertNull(uniqueContactList.getContact(getBob().getNric()));
+    }
+
     @Test
     public void add_nullContact_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueContactList.add(null));
@@ -127,6 +141,25 @@ public class UniqueContactListTest {
         assertEquals(expectedUniqueContactList, uniqueContactList);
     }
 
+    @Test
+    public void remove_existingContact_keepsLaterContactsIndexed() {
+        uniqueContactList.add(getAlice());
+        uniqueContactList.add(getBob());
+        uniqueContactList.remove(getAlice());
+        assertFalse(uniqueContactList.contains(getAlice().getNric()));
+        assertEquals(getBob(), uniqueContactList.getContact(getBob().getNric()));
+        uniqueContactList.remove(getBob());
+        assertEquals(new UniqueContactList(), uniqueContactList);
+    }
+
+    @Test
+    public void setContact_editedContactHasDifferentIdentity_reindexesContact() {
+        uniqueContactList.add(getAlice());
+        uniqueContactList.setContact(getAlice(), getBob());
+        assertFalse(uniqueContactList.contains(getAlice().getNric()));
+        assertEquals(getBob(), uniqueContactList.getContact(getBob().getNric()));
+    }
+
     @Test
     public void setContacts_nullUniqueContactList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueContactList.setContacts((UniqueContactList) null));
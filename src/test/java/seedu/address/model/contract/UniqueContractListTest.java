@@ -2,15 +2,22 @@ package seedu.address.model.contract;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalData.getContractA;
 import static seedu.address.testutil.TypicalData.getContractB;
+import static seedu.address.testutil.TypicalData.getContractC;
+import static seedu.address.testutil.TypicalData.getContractD;
+
+import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.contract.exceptions.ContractNotFoundException;
 import seedu.address.model.contract.exceptions.DuplicateContractException;
+import seedu.address.testutil.ContractBuilder;
 
 public class UniqueContractListTest {
 
@@ -47,6 +54,149 @@ public class UniqueContractListTest {
         assertTrue(uniqueContractList.contains(editedContractA));
     }
 
+    @Test
+    public void getContract_contractInList_returnsContract() {
+        uniqueContractList.add(getContractA());
+        assertEquals(getContractA(), uniqueContractList.getContract(getContractA().getCId()));
+    }
+
+    @Test
+    public void getContract_contractNotInList_returnsNull() {
+        uniqueContractList.add(getContractA());
+        assertNull(uniqueContractList.getContract(getContractB().getCId()));
+    }
+
+    @Test
+    public void getContract_afterRemoveAndEdit_reflectsChanges() {
+        uniqueContractList.add(getContractA());
+        uniqueContractList.setContract(getContractA(), getContractB());
+        assertFalse(uniqueContractList.containsId(getContractA().getCId()));
+        assertEquals(getContractB(), uniqueContractList.getContract(getContractB().getCId()));
+        uniqueContractList.remove(getContractB());
+        assertNull(uniqueContractList.getContract(getContractB().getCId()));
+    }
+
+    @Test
+    public void getContracts_afterEdit_movesContractBetweenOwners() {
+        uniqueContractList.add(getContractA());
+        assertEquals(List.of(getContractA()), uniqueContractList.getContracts(getContractA().getNric()));
+        assertEquals(List.of(getContractA()), uniqueContractList.getContracts(getContractA().getPId()));
+
+        uniqueContractList.setContract(getContractA(), getContractB());
+        assertTrue(uniqueContractList.getContracts(getContractA().getNric()).isEmpty());
+        assertTrue(uniqueContractList.getContracts(getContractA().getPId()).isEmpty());
+        assertEquals(List.of(getContractB()), uniqueContractList.getContracts(getContractB().getNric()));
+        assertEquals(List.of(getContractB()), uniqueContractList.getContracts(getContractB().getPId()));
+
+        uniqueContractList.remove(getContractB());
+        assertTrue(uniqueContractList.getContracts(getContractB().getNric()).isEmpty());
+        assertTrue(uniqueContractList.getContracts(getContractB().getPId()).isEmpty());
+    }
+
+    @Test
+    public void getContracts_contractsSharingPolicy_keptInAddOrder() {
+        uniqueContractList.add(getContractD());
+        uniqueContractList.add(getContractA());
+        assertEquals(List.of(getContractD(), getContractA()),
+                uniqueContractList.getContracts(getContractA().getPId()));
+
+        uniqueContractList.remove(getContractD());
+        assertEquals(List.of(getContractA()), uniqueContractList.getContracts(getContractA().getPId()));
+    }
+
+    @Test
+    public void getContract_contractsSharingId_earliestRemainingReturned() {
+        Contract sharingId = new ContractBuilder(getContractB()).withCId(getContractA().getCId().toString()).build();
+        uniqueContractList.add(getContractA());
+        uniqueContractList.add(sharingId);
+        assertEquals(getContractA(), uniqueContractList.getContract(getContractA().getCId()));
+
+        uniqueContractList.remove(getContractA());
+        assertEquals(sharingId, uniqueContractList.getContract(getContractA().getCId()));
+
+        uniqueContractList.setContract(sharingId, getContractB());
+        assertFalse(uniqueContractList.containsId(getContractA().getCId()));
+        assertEquals(getContractB(), uniqueContractList.getContract(getContractB().getCId()));
+    }
+
+    @Test
+    public void getContractsExpiringBetween_afterEditAndRemove_reflectsChanges() {
+        uniqueContractList.add(getContractA());
+        LocalDate expiry = getContractA().getExpiryDate();
+        Contract extended = new ContractBuilder(getContractA()).withExpiryDate(expiry.plusYears(1)).build();
+
+        uniqueContractList.setContract(getContractA(), extended);
+        assertTrue(uniqueContractList.getContractsExpiringBetween(expiry, expiry).isEmpty());
+        assertEquals(List.of(extended), uniqueContractList.getContractsExpiringBetween(expiry, expiry.plusYears(1)));
+
+        uniqueContractList.remove(extended);
+        assertTrue(uniqueContractList.getContractsExpiringBetween(expiry, expiry.plusYears(1)).isEmpty());
+    }
+
+    @Test
+    public void setContracts_list_reindexesAllLookups() {
+        uniqueContractList.add(getContractA());
+        uniqueContractList.setContracts(List.of(getContractB(), getContractC()));
+        assertIndexedOnly(List.of(getContractB(), getContractC()), List.of(getContractA()));
+    }
+
+    @Test
+    public void setContracts_uniqueContractList_reindexesAllLookups() {
+        uniqueContractList.add(getContractA());
+        UniqueContractList replacement = new UniqueContractList();
+        replacement.add(getContractB());
+        replacement.add(getContractC());
+        uniqueContractList.setContracts(replacement);
+        assertIndexedOnly(List.of(getContractB(), getContractC()), List.of(getContractA()));
+    }
+
+    @Test
+    public void addAll_contractAlreadyInList_throwsDuplicateContractExceptionAndKeepsList() {
+        uniqueContractList.add(getContractA());
+        assertThrows(DuplicateContractException.class, () ->
+                uniqueContractList.addAll(List.of(getContractB(), getContractA())));
+        assertIndexedOnly(List.of(getContractA()), List.of(getContractB()));
+    }
+
+    @Test
+    public void addAll_listWithDuplicateContracts_throwsDuplicateContractException() {
+        assertThrows(DuplicateContractException.class, () ->
+                uniqueContractList.addAll(List.of(getContractA(), getContractB(), getContractA())));
+        assertTrue(uniqueContractList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void addAll_uniqueContracts_indexesAll() {
+        uniqueContractList.add(getContractA());
+        uniqueContractList.addAll(List.of(getContractB(), getContractC()));
+        assertIndexedOnly(List.of(getContractA(), getContractB(), getContractC()), List.of());
+    }
+
+    @Test
+    public void setContracts_listWithSameIdentityOtherDetails_throwsDuplicateContractExceptionAndKeepsList() {
+        uniqueContractList.add(getContractA());
+        Contract sameIdentity = new ContractBuilder(getContractA()).withCId("C9999Z")
+                .withExpiryDate(getContractA().getExpiryDate().plusYears(1)).build();
+        assertThrows(DuplicateContractException.class, () ->
+                uniqueContractList.setContracts(List.of(getContractA(), getContractB(), sameIdentity)));
+        assertIndexedOnly(List.of(getContractA()), List.of(getContractB()));
+    }
+
+    @Test
+    public void setContracts_listWithContractsSharingOnlyId_success() {
+        Contract sharingId = new ContractBuilder(getContractB()).withCId(getContractA().getCId().toString()).build();
+        uniqueContractList.setContracts(List.of(getContractA(), sharingId));
+        assertEquals(List.of(getContractA(), sharingId), uniqueContractList.asUnmodifiableObservableList());
+        assertEquals(getContractA(), uniqueContractList.getContract(getContractA().getCId()));
+    }
+
+    @Test
+    public void add_sameIdentityOtherDetails_throwsDuplicateContractException() {
+        uniqueContractList.add(getContractA());
+        Contract sameIdentity = new ContractBuilder(getContractA()).withCId("C9999Z").build();
+        assertThrows(DuplicateContractException.class, () -> uniqueContractList.add(sameIdentity));
+    }
+
     @Test
     public void add_nullContract_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueContractList.add(null));
@@ -162,6 +312,8 @@ public class UniqueContractListTest {
         java.util.List<Contract> contractList = java.util.List.of(getContractB());
         uniqueContractList.setContracts(contractList);
         UniqueContractList expectedUniqueContractList = new UniqueContractList();
+        expectedUniqueContractList.add(getContractB());
+        assertEquals(expectedUniqueContractList, uniqueContractList);
     }
 
     @Test
@@ -231,4 +383,27 @@ public class UniqueContractListTest {
         assertEquals(expected, anotherList.toString());
     }
 
+    /**
+     * Asserts that the list holds exactly {@code expected} and that every lookup finds those contracts and none of
+     * {@code absent}.
+     */
+    private void assertIndexedOnly(List<Contract> expected, List<Contract> absent) {
+        assertEquals(expected, uniqueContractList.asUnmodifiableObservableList());
+        for (Contract contract : expected) {
+            assertEquals(contract, uniqueContractList.getContract(contract.getCId()));
+            assertTrue(uniqueContractList.getContracts(contract.getNric()).contains(contract));
+            assertTrue(uniqueContractList.getContracts(contract.getPId()).contains(contract));
+            assertTrue(uniqueContractList.getContractsExpiringBetween(contract.getExpiryDate(),
+                    contract.getExpiryDate()).contains(contract));
+            assertTrue(uniqueContractList.contains(contract));
+        }
+        for (Contract contract : absent) {
+            assertFalse(uniqueContractList.containsId(contract.getCId()));
+            assertTrue(uniqueContractList.getContracts(contract.getNric()).isEmpty());
+            assertFalse(uniqueContractList.getContracts(contract.getPId()).contains(contract));
+            assertFalse(uniqueContractList.getContractsExpiringBetween(contract.getExpiryDate(),
+                    contract.getExpiryDate()).contains(contract));
+            assertFalse(uniqueContractList.contains(contract));
+        }
+    }
 }
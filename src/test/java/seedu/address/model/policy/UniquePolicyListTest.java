@@ -3,6 +3,7 @@ package seedu.address.model.policy;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.PolicyCommandTestUtil.VALID_DETAILS_HEALTH_B;
 import static seedu.address.logic.commands.PolicyCommandTestUtil.VALID_POLICY_ID_HEALTH_B;
@@ -55,6 +56,16 @@ public class UniquePolicyListTest {
         assertTrue(uniquePolicyList.containsSamePolicy(editedPolicy));
     }
 
+    @Test
+    public void containsSamePolicy_afterEditAndRemove_reflectsChanges() {
+        uniquePolicyList.add(getHome());
+        uniquePolicyList.setPolicy(getHome(), getHealthB());
+        assertFalse(uniquePolicyList.containsSamePolicy(getHome()));
+        assertTrue(uniquePolicyList.containsSamePolicy(getHealthB()));
+        uniquePolicyList.remove(getHealthB());
+        assertFalse(uniquePolicyList.containsSamePolicy(getHealthB()));
+    }
+
     @Test
     public void containsId_policyIdNotInList_returnsFalse() {
         PolicyId policyId = new PolicyId(VALID_POLICY_ID_HOME);
@@ -68,6 +79,18 @@ public class UniquePolicyListTest {
         assertTrue(uniquePolicyList.containsId(policyId));
     }
 
+    @Test
+    public void getPolicy_policyInList_returnsPolicy() {
+        uniquePolicyList.add(getHome());
+        assertEquals(getHome(), uniquePolicyList.getPolicy(getHome().getId()));
+    }
+
+    @Test
+    public void getPolicy_policyNotInList_returnsNull() {
+        uniquePolicyList.add(getHome());
+        assertNull(uniquePolicyList.getPolicy(getHealthB().getId()));
+    }
+
     @Test
     public void add_nullPolicy_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePolicyList.add(null));
@@ -167,6 +190,25 @@ public class UniquePolicyListTest {
         assertEquals(expectedUniquePolicyList, uniquePolicyList);
     }
 
+    @Test
+    public void remove_existingPolicy_keepsLaterPoliciesIndexed() {
+        uniquePolicyList.add(getHome());
+        uniquePolicyList.add(getHealthB());
+        uniquePolicyList.remove(getHome());
+        assertFalse(uniquePolicyList.containsId(getHome().getId()));
+        assertEquals(getHealthB(), uniquePolicyList.getPolicy(getHealthB().getId()));
+        uniquePolicyList.remove(getHealthB());
+        assertTrue(uniquePolicyList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void setPolicy_editedPolicyHasDifferentId_reindexesPolicy() {
+        uniquePolicyList.add(getHome());
+        uniquePolicyList.setPolicy(getHome(), getHealthB());
+        assertNull(uniquePolicyList.getPolicy(getHome().getId()));
+        assertEquals(getHealthB(), uniquePolicyList.getPolicy(getHealthB().getId()));
+    }
+
     @Test
     public void setPolicies_nullUniquePolicyList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePolicyList.setPolicies((UniquePolicyList) null));
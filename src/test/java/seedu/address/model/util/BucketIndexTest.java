@@ -0,0 +1,63 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class BucketIndexTest {
+
+    @Test
+    public void viewOf_noBucket_emptyList() {
+        assertEquals(Collections.emptyList(), BucketIndex.viewOf(null));
+    }
+
+    @Test
+    public void viewOf_bucket_unmodifiableView() {
+        List<String> bucket = new ArrayList<>(Arrays.asList("a", "b"));
+        List<String> view = BucketIndex.viewOf(bucket);
+        assertThrows(UnsupportedOperationException.class, () -> view.add("c"));
+        bucket.add("c");
+        assertEquals(Arrays.asList("a", "b", "c"), view);
+    }
+
+    @Test
+    public void addAndRemove_lastElement_bucketRemoved() {
+        Map<Integer, List<String>> index = new HashMap<>();
+        BucketIndex.addToBucket(index, 1, "a");
+        BucketIndex.addToBucket(index, 1, "b");
+        assertEquals(Arrays.asList("a", "b"), index.get(1));
+
+        BucketIndex.removeFromBucket(index, 1, "a");
+        assertEquals(Collections.singletonList("b"), index.get(1));
+        BucketIndex.removeFromBucket(index, 1, "b");
+        assertFalse(index.containsKey(1));
+    }
+
+    @Test
+    public void replaceInBucket_sameKey_keepsPosition() {
+        Map<Integer, List<String>> index = new HashMap<>();
+        BucketIndex.addToBucket(index, 1, "a");
+        BucketIndex.addToBucket(index, 1, "b");
+        BucketIndex.replaceInBucket(index, 1, 1, "a", "c");
+        assertEquals(Arrays.asList("c", "b"), index.get(1));
+    }
+
+    @Test
+    public void replaceInBucket_newKey_movesToNewBucket() {
+        Map<Integer, List<String>> index = new HashMap<>();
+        BucketIndex.addToBucket(index, 1, "a");
+        BucketIndex.addToBucket(index, 2, "b");
+        BucketIndex.replaceInBucket(index, 1, 2, "a", "c");
+        assertFalse(index.containsKey(1));
+        assertEquals(Arrays.asList("b", "c"), index.get(2));
+    }
+}
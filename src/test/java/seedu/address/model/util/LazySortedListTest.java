@@ -0,0 +1,46 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class LazySortedListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("b", "c", "a");
+    private final LazySortedList<String> lazySortedList = new LazySortedList<>(source);
+
+    @Test
+    public void get_noComparator_sourceOrder() {
+        assertNull(lazySortedList.getComparator());
+        assertEquals(List.of("b", "c", "a"), lazySortedList);
+        assertEquals(2, lazySortedList.getSourceIndex(2));
+    }
+
+    @Test
+    public void setComparator_comparator_sortedOrder() {
+        lazySortedList.setComparator(Comparator.naturalOrder());
+        assertEquals(List.of("a", "b", "c"), lazySortedList);
+        assertEquals(2, lazySortedList.getSourceIndex(0));
+    }
+
+    @Test
+    public void setComparator_comparatorCleared_sourceOrder() {
+        lazySortedList.setComparator(Comparator.naturalOrder());
+        lazySortedList.setComparator(null);
+        assertNull(lazySortedList.getComparator());
+        assertEquals(List.of("b", "c", "a"), lazySortedList);
+    }
+
+    @Test
+    public void setComparator_nullBeforeSorting_sourceOrder() {
+        lazySortedList.setComparator(null);
+        assertEquals(List.of("b", "c", "a"), lazySortedList);
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalData.getAppointmentB;
+import static seedu.address.testutil.TypicalData.getAppointmentD;
+import static seedu.address.testutil.TypicalData.getContractB;
+import static seedu.address.testutil.TypicalData.getContractD;
+import static seedu.address.testutil.TypicalData.getHome;
+import static seedu.address.testutil.TypicalData.getHoon;
+import static seedu.address.testutil.TypicalData.getLife;
+import static seedu.address.testutil.TypicalData.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalData.getTypicalAlice;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.SaveDurability;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.testutil.ContactBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final Duration NEVER = Duration.ofDays(365);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, Long.MAX_VALUE, NEVER);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameData(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, Long.MAX_VALUE, NEVER);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        Contact editedAlice = new ContactBuilder(getTypicalAlice()).withAddress("1 Journal Street").build();
+        original.setContact(getTypicalAlice(), editedAlice);
+        original.addContact(getHoon());
+        original.addPolicy(getHome());
+        original.removePolicy(getLife());
+        original.addContract(getContractD());
+        original.removeContract(getContractB());
+        original.addAppointment(getAppointmentD());
+        original.removeAppointment(getAppointmentB());
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(8, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_compressedAndForcedToDisk_snapshotCompressedAndChangesJournaled() throws Exception {
+        Path filePath = testFolder.resolve("ab.json.gz");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true,
+                SaveDurability.FSYNC_FILE_AND_DIR, Deflater.BEST_COMPRESSION);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.addContact(getHoon());
+        storage.saveAddressBook(original);
+
+        assertEquals(GZIPInputStream.GZIP_MAGIC, (snapshot[0] & 0xff) | ((snapshot[1] & 0xff) << 8));
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, Long.MAX_VALUE, NEVER);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_journalOverThreshold_compacts() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0, NEVER);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addContact(getHoon());
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameData(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, Long.MAX_VALUE, NEVER);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addContact(getHoon());
+        storage.saveAddressBook(original);
+
+        Files.writeString(storage.getJournalFilePath(), "{\"op\":\"remove\",\"con", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterIncompleteLastRecord_appendsAfterLastCompleteRecord() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, Long.MAX_VALUE, NEVER);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addContact(getHoon());
+        storage.saveAddressBook(original);
+        Files.writeString(storage.getJournalFilePath(), "{\"op\":\"remove\",\"con", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        original.removeContact(getHoon());
+        storage.saveAddressBook(original);
+
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterChangesRemembered_nextSaveJournalsOnlyNewChanges() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, Long.MAX_VALUE, NEVER);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addContact(getHoon());
+        original.removeAppointment(original.getAppointmentList().get(0));
+        storage.saveAddressBook(original);
+        long journalSize = Files.size(storage.getJournalFilePath());
+
+        storage.saveAddressBook(original);
+
+        assertEquals(journalSize, Files.size(storage.getJournalFilePath()));
+        assertSameData(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, Long.MAX_VALUE, NEVER);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.writeString(storage.getJournalFilePath(), "{\"op\":\"rename\"}\n", StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getContactList(), actual.getContactList());
+        assertEquals(expected.getPolicyList(), actual.getPolicyList());
+        assertEquals(expected.getContractList(), actual.getContractList());
+        assertEquals(expected.getAppointmentList(), actual.getAppointmentList());
+    }
+}
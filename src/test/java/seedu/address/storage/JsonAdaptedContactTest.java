@@ -9,7 +9,9 @@ import static seedu.address.testutil.TypicalData.getDaniel;
 import static seedu.address.testutil.TypicalData.getTypicalContacts;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,7 @@ import seedu.address.model.contact.Email;
 import seedu.address.model.contact.Name;
 import seedu.address.model.contact.Nric;
 import seedu.address.model.contact.Phone;
+import seedu.address.model.contract.Contract;
 
 public class JsonAdaptedContactTest {
     private static final String INVALID_NAME = "Ra¢hel";
@@ -90,10 +93,27 @@ public class JsonAdaptedContactTest {
 
     @Test
     public void toModelType_validContactDetailsWithContract_returnsContact() throws Exception {
-        JsonAdaptedContact contact = new JsonAdaptedContact(ALICE_WITH_CONTRACT);
+        JsonAdaptedContact contact = JsonAdaptedContact.embeddingContracts(ALICE_WITH_CONTRACT);
         assertEquals(ALICE_WITH_CONTRACT, contact.toModelType());
     }
 
+    @Test
+    public void toModelType_contractIds_resolvedAgainstContractTable() throws Exception {
+        JsonAdaptedContact contact = new JsonAdaptedContact(ALICE_WITH_CONTRACT);
+        Map<String, List<Contract>> contractsById = new HashMap<>();
+        for (Contract contract : ALICE_WITH_CONTRACT.getContracts()) {
+            contractsById.computeIfAbsent(contract.getCId().toString(), unused -> new ArrayList<>()).add(contract);
+        }
+        assertEquals(ALICE_WITH_CONTRACT, contact.toModelType(contractsById));
+    }
+
+    @Test
+    public void toModelType_contractIdsWithoutContracts_throwsIllegalValueException() {
+        JsonAdaptedContact contact = new JsonAdaptedContact(ALICE_WITH_CONTRACT);
+        assertThrows(IllegalValueException.class, JsonAdaptedContact.UNRESOLVED_CONTRACTS_MESSAGE,
+                contact::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedContact contact =
@@ -6,6 +6,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalData.getTypicalPolicies;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -52,9 +53,26 @@ public class JsonAdaptedPolicyTest {
 
     @Test
     public void toModelType_validPolicyValuesWithContract_returnsPolicy() throws Exception {
-        SAMPLE_POLICY.addContract(VALID_CONTRACTS.get(0).toModelType());
-        JsonAdaptedPolicy policy = new JsonAdaptedPolicy(SAMPLE_POLICY);
-        assertEquals(SAMPLE_POLICY, policy.toModelType());
+        Policy policyWithContract = new Policy(
+                new PolicyName(VALID_NAME), new PolicyDetails(VALID_DETAILS), new PolicyId(VALID_ID));
+        policyWithContract.addContract(VALID_CONTRACTS.get(0).toModelType());
+        JsonAdaptedPolicy policy = JsonAdaptedPolicy.embeddingContracts(policyWithContract);
+        assertEquals(policyWithContract, policy.toModelType());
+    }
+
+    @Test
+    public void toModelType_contractIdsWithoutContracts_throwsIllegalValueException() {
+        JsonAdaptedPolicy policy = new JsonAdaptedPolicy(VALID_NAME, VALID_DETAILS, VALID_ID,
+                Collections.emptyList(), Collections.singletonList("abcdef"));
+        assertThrows(IllegalValueException.class, JsonAdaptedPolicy.UNRESOLVED_CONTRACTS_MESSAGE,
+                policy::toModelType);
+    }
+
+    @Test
+    public void toModelTypeDroppingContractIds_contractIds_returnsPolicyWithoutContracts() throws Exception {
+        JsonAdaptedPolicy policy = new JsonAdaptedPolicy(VALID_NAME, VALID_DETAILS, VALID_ID,
+                Collections.emptyList(), Collections.singletonList("abcdef"));
+        assertEquals(Collections.emptySet(), policy.toModelTypeDroppingContractIds().getContracts());
     }
 
     @Test
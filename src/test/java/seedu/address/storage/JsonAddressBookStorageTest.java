@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalData.getAppointmentB;
 import static seedu.address.testutil.TypicalData.getAppointmentD;
@@ -18,13 +19,17 @@ import static seedu.address.testutil.TypicalData.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalData.getTypicalAlice;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.Deflater;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.SaveDurability;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -116,6 +121,7 @@ public class JsonAddressBookStorageTest {
         original.removePolicy(getLife());
         original.addContract(getContractD());
         original.removeContract(getContractB());
+        original.removeContractFromContact(getContractB());
         original.addAppointment(getAppointmentD());
         original.removeAppointment(getAppointmentB());
         jsonAddressBookStorage.saveAddressBook(original, filePath);
@@ -133,6 +139,90 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_sameContent_writeSkipped() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, false, SaveDurability.FSYNC_FILE);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(0));
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(1, storage.getWriteCount());
+        assertEquals(1, storage.getSkippedWriteCount());
+        assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_changedContent_written() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addContact(getHoon());
+        storage.saveAddressBook(original);
+
+        assertEquals(2, storage.getWriteCount());
+        assertEquals(0, storage.getSkippedWriteCount());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_sameContentFileDeleted_written() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(filePath);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(2, storage.getWriteCount());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressedPath_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] content = Files.readAllBytes(filePath);
+        assertEquals((byte) 0x1f, content[0]);
+        assertEquals((byte) 0x8b, content[1]);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_compressedFileWithoutGzSuffix_success() throws Exception {
+        Path compressedPath = testFolder.resolve("TempAddressBook.json.gz");
+        new JsonAddressBookStorage(compressedPath).saveAddressBook(getTypicalAddressBook());
+        Path filePath = Files.move(compressedPath, testFolder.resolve("TempAddressBook.json"));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(new JsonAddressBookStorage(filePath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressionLevel_appliedToCompressedPath() throws Exception {
+        Path storedPath = testFolder.resolve("Stored.json.gz");
+        Path bestPath = testFolder.resolve("Best.json.gz");
+        new JsonAddressBookStorage(storedPath, false, SaveDurability.NONE, Deflater.NO_COMPRESSION)
+                .saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(bestPath, false, SaveDurability.NONE, Deflater.BEST_COMPRESSION)
+                .saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(bestPath) < Files.size(storedPath));
+        assertEquals(getTypicalAddressBook(), new AddressBook(new JsonAddressBookStorage(storedPath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(
+                testFolder.resolve("TempAddressBook.json.gz"), false, SaveDurability.NONE, 10));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
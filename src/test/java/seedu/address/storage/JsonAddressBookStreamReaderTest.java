@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalData.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class JsonAddressBookStreamReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonAddressBookStreamReader.readAddressBook(testFolder.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void readAddressBook_embeddedContractsFile_success() throws Exception {
+        ReadOnlyAddressBook read = JsonAddressBookStreamReader
+                .readAddressBook(TEST_DATA_FOLDER.resolve("typicalAddressBook.json")).get();
+        assertEquals(getTypicalAddressBook(), read);
+    }
+
+    @Test
+    public void readAddressBook_currentVersionFile_sameAsFullRead() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), filePath);
+
+        assertSameData(original, JsonAddressBookStreamReader.readAddressBook(filePath).get());
+    }
+
+    @Test
+    public void readAddressBook_contractsListLast_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        ObjectMapper mapper = new ObjectMapper();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        ObjectNode written = (ObjectNode) mapper.readTree(json);
+        ObjectNode reordered = mapper.createObjectNode();
+        reordered.set("contacts", written.get("contacts"));
+        reordered.set("policies", written.get("policies"));
+        reordered.set("appointments", written.get("appointments"));
+        reordered.set("contracts", written.get("contracts"));
+        reordered.set("version", written.get("version"));
+        Files.writeString(filePath, mapper.writeValueAsString(reordered));
+
+        assertSameData(original, JsonAddressBookStreamReader.readAddressBook(filePath).get());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Files.writeString(filePath, "{\"version\" : 99, \"contacts\" : []}");
+
+        assertThrows(DataLoadingException.class, () -> JsonAddressBookStreamReader.readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_notAnArray_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Files.writeString(filePath, "{\"contacts\" : {}}");
+
+        assertThrows(DataLoadingException.class, () -> JsonAddressBookStreamReader.readAddressBook(filePath));
+    }
+
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getContactList(), actual.getContactList());
+        assertEquals(expected.getPolicyList(), actual.getPolicyList());
+        assertEquals(expected.getContractList(), actual.getContractList());
+        assertEquals(expected.getAppointmentList(), actual.getAppointmentList());
+    }
+}
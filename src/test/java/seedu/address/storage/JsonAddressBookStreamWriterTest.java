@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalData.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.SaveDurability;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class JsonAddressBookStreamWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeAddressBook_indented_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+
+        JsonAddressBookStreamWriter.writeAddressBook(original, filePath, false, SaveDurability.NONE);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), Files.readString(filePath));
+    }
+
+    @Test
+    public void writeAddressBook_compact_singleLineAndReadable() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+
+        JsonAddressBookStreamWriter.writeAddressBook(original, filePath, true, SaveDurability.NONE);
+
+        String written = Files.readString(filePath);
+        assertFalse(written.contains("\n"));
+        assertTrue(written.length() < JsonUtil.toJsonString(new JsonSerializableAddressBook(original)).length());
+        assertSameData(original, JsonAddressBookStreamReader.readAddressBook(filePath).get());
+    }
+
+    @Test
+    public void writeAddressBook_existingFile_replaced() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonAddressBookStreamWriter.writeAddressBook(getTypicalAddressBook(), filePath, false, SaveDurability.NONE);
+
+        JsonAddressBookStreamWriter.writeAddressBook(new AddressBook(), filePath, true, SaveDurability.NONE);
+
+        assertSameData(new AddressBook(), JsonAddressBookStreamReader.readAddressBook(filePath).get());
+    }
+
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getContactList(), actual.getContactList());
+        assertEquals(expected.getPolicyList(), actual.getPolicyList());
+        assertEquals(expected.getContractList(), actual.getContractList());
+        assertEquals(expected.getAppointmentList(), actual.getAppointmentList());
+    }
+}
@@ -96,4 +96,29 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_currentVersionRoundTrip_contractsResolved() throws Exception {
+        AddressBook original = TypicalData.getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        AddressBook readBack = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+
+        // every contract is written once, in the contracts list
+        assertEquals(original.getContractList().size(), json.split("\"dateSigned\"", -1).length - 1);
+        assertEquals(original.getContactList(), readBack.getContactList());
+        assertEquals(original.getPolicyList(), readBack.getPolicyList());
+        assertEquals(original.getContractList(), readBack.getContractList());
+        for (int i = 0; i < original.getPolicyList().size(); i++) {
+            assertEquals(original.getPolicyList().get(i).getContracts(),
+                    readBack.getPolicyList().get(i).getContracts());
+        }
+    }
+
+    @Test
+    public void toModelType_unsupportedVersion_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.fromJsonString("{\"version\" : 99}",
+                JsonSerializableAddressBook.class);
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_UNSUPPORTED_VERSION, 99), dataFromFile::toModelType);
+    }
+
 }
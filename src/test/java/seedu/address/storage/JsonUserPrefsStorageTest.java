@@ -2,18 +2,22 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.zip.Deflater;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.SaveDurability;
 import seedu.address.model.UserPrefs;
 
 public class JsonUserPrefsStorageTest {
@@ -70,6 +74,56 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_nullSaveDurability_noneUsed() throws Exception {
+        UserPrefs actual = readUserPrefsJson("{ \"addressBookSaveDurability\" : null, "
+                + "\"isAddressBookCompact\" : true }");
+
+        assertEquals(SaveDurability.NONE, actual.getAddressBookSaveDurability());
+        assertTrue(actual.isAddressBookCompact());
+    }
+
+    @Test
+    public void readUserPrefs_unknownSaveDurability_noneUsed() throws Exception {
+        UserPrefs actual = readUserPrefsJson("{ \"addressBookSaveDurability\" : \"FSYNC_EVERYTHING\", "
+                + "\"isAddressBookCompact\" : true }");
+
+        assertEquals(SaveDurability.NONE, actual.getAddressBookSaveDurability());
+        assertTrue(actual.isAddressBookCompact());
+    }
+
+    @Test
+    public void readUserPrefs_knownSaveDurability_read() throws Exception {
+        UserPrefs actual = readUserPrefsJson("{ \"addressBookSaveDurability\" : \"FSYNC_FILE\" }");
+
+        assertEquals(SaveDurability.FSYNC_FILE, actual.getAddressBookSaveDurability());
+    }
+
+    @Test
+    public void readUserPrefs_invalidCompressionLevel_defaultLevelUsed() throws Exception {
+        UserPrefs actual = readUserPrefsJson("{ \"addressBookCompressionLevel\" : 12, "
+                + "\"isAddressBookCompact\" : true }");
+
+        assertEquals(Deflater.DEFAULT_COMPRESSION, actual.getAddressBookCompressionLevel());
+        assertTrue(actual.isAddressBookCompact());
+    }
+
+    @Test
+    public void readUserPrefs_validCompressionLevel_read() throws Exception {
+        UserPrefs actual = readUserPrefsJson("{ \"addressBookCompressionLevel\" : 9 }");
+
+        assertEquals(Deflater.BEST_COMPRESSION, actual.getAddressBookCompressionLevel());
+    }
+
+    /**
+     * Reads the prefs in a preference file holding {@code json}.
+     */
+    private UserPrefs readUserPrefsJson(String json) throws Exception {
+        Path prefsFilePath = testFolder.resolve("prefs.json");
+        FileUtil.writeToFile(prefsFilePath, json);
+        return new JsonUserPrefsStorage(prefsFilePath).readUserPrefs().get();
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
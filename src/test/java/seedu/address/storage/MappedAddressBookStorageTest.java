@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalData.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+
+public class MappedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_binarySnapshot_sameData() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook mapped = new MappedAddressBookStorage(filePath).readAddressBook().get();
+
+        assertEquals(original.getContactList(), mapped.getContactList());
+        assertEquals(original.getPolicyList(), mapped.getPolicyList());
+        assertEquals(original.getContractList(), mapped.getContractList());
+        assertEquals(original.getAppointmentList(), mapped.getAppointmentList());
+    }
+
+    @Test
+    public void readAddressBook_entryAccessedTwice_decodedOnce() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook mapped = new MappedAddressBookStorage(filePath).readAddressBook().get();
+
+        int last = original.getContactList().size() - 1;
+        assertEquals(original.getContactList().get(last), mapped.getContactList().get(last));
+        assertSame(mapped.getContactList().get(last), mapped.getContactList().get(last));
+    }
+
+    @Test
+    public void readOnlyModel_mappedBook_nothingDecodedUntilRead() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        MappedAddressBook mapped = (MappedAddressBook) new MappedAddressBookStorage(filePath).readAddressBook().get();
+
+        ModelManager model = ModelManager.readOnly(mapped, new UserPrefs());
+
+        assertEquals(0, mapped.getDecodedCount());
+        assertEquals(original.getContactList().size(), model.getSortedContactList().size());
+        assertEquals(0, mapped.getDecodedCount());
+        assertEquals(original.getContactList().get(0), model.getSortedContactList().get(0));
+        assertTrue(mapped.getDecodedCount() > 0);
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new MappedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_truncatedSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_readOnly_throwsIoException() {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(IOException.class, MappedAddressBookStorage.MESSAGE_READ_ONLY, () ->
+                storage.saveAddressBook(new AddressBook()));
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConversionTest {
+
+    private static final int LARGE_SIZE = ParallelConversion.PARALLEL_THRESHOLD * 8;
+
+    @Test
+    public void convertAll_largeList_keepsOrder() throws Exception {
+        List<Integer> sources = IntStream.range(0, LARGE_SIZE).boxed().collect(Collectors.toList());
+
+        List<String> converted = ParallelConversion.convertAll(sources, String::valueOf);
+
+        assertEquals(sources.stream().map(String::valueOf).collect(Collectors.toList()), converted);
+    }
+
+    @Test
+    public void convertAll_smallList_keepsOrder() throws Exception {
+        assertEquals(List.of("1", "2", "3"), ParallelConversion.convertAll(List.of(1, 2, 3), String::valueOf));
+    }
+
+    @Test
+    public void convertAll_severalInvalidEntries_throwsErrorOfFirst() {
+        List<Integer> sources = IntStream.range(0, LARGE_SIZE).boxed().collect(Collectors.toList());
+        int firstInvalid = LARGE_SIZE / 3;
+
+        assertThrows(IllegalValueException.class, "invalid " + firstInvalid, () ->
+                ParallelConversion.convertAll(sources, i -> {
+                    if (i >= firstInvalid && i % 7 == 0) {
+                        throw new IllegalValueException("invalid " + i);
+                    }
+                    return i;
+                }));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalData.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.contract.Contract;
+
+public class ProgressiveAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readContactsAndPolicies_missingFile_emptyResult() throws Exception {
+        ProgressiveAddressBookReader reader = new ProgressiveAddressBookReader(testFolder.resolve("missing.json"));
+        assertFalse(reader.readContactsAndPolicies().isPresent());
+    }
+
+    @Test
+    public void readContactsAndPolicies_typicalFile_noContractsOrAppointments() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook partial = new ProgressiveAddressBookReader(filePath).readContactsAndPolicies().get();
+
+        assertEquals(original.getContactList().size(), partial.getContactList().size());
+        assertEquals(original.getPolicyList(), partial.getPolicyList());
+        assertTrue(partial.getContactList().stream().allMatch(contact -> contact.getContracts().isEmpty()));
+        assertTrue(partial.getContractList().isEmpty());
+        assertTrue(partial.getAppointmentList().isEmpty());
+    }
+
+    @Test
+    public void readContractsAndAppointments_typicalFile_allEntriesInOrder() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        List<Contract> contracts = new ArrayList<>();
+        List<Appointment> appointments = new ArrayList<>();
+        List<Double> progress = new ArrayList<>();
+        new ProgressiveAddressBookReader(filePath).readContractsAndAppointments((chunkContracts, chunkAppointments,
+                chunkProgress) -> {
+            contracts.addAll(chunkContracts);
+            appointments.addAll(chunkAppointments);
+            progress.add(chunkProgress);
+        });
+
+        assertEquals(original.getContractList(), contracts);
+        assertEquals(original.getAppointmentList(), appointments);
+        assertTrue(progress.stream().allMatch(fraction -> fraction > 0 && fraction <= 1));
+    }
+
+    @Test
+    public void readContractsAndAppointments_invalidContract_throwsDataLoadingException() {
+        ProgressiveAddressBookReader reader = new ProgressiveAddressBookReader(
+                TEST_DATA_FOLDER.resolve("invalidContractAddressBook.json"));
+        assertThrows(DataLoadingException.class, () -> reader.readContractsAndAppointments((contracts,
+                appointments, progress) -> {}));
+    }
+
+    @Test
+    public void readContactsAndPolicies_invalidContact_throwsDataLoadingException() {
+        ProgressiveAddressBookReader reader = new ProgressiveAddressBookReader(
+                TEST_DATA_FOLDER.resolve("invalidContactAddressBook.json"));
+        assertThrows(DataLoadingException.class, reader::readContactsAndPolicies);
+    }
+}
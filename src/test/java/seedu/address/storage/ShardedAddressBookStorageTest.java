@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalData.getAppointmentB;
+import static seedu.address.testutil.TypicalData.getAppointmentD;
+import static seedu.address.testutil.TypicalData.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.SaveDurability;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contract.Contract;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("ab")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_allShardsWritten() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        AddressBook original = getTypicalAddressBook();
+
+        new ShardedAddressBookStorage(directory).saveAddressBook(original);
+
+        JsonSerializableShardManifest manifest = readManifest(directory);
+        assertEquals("contracts-1.json", manifest.getContracts());
+        assertEquals("contacts-1.json", manifest.getContacts());
+        assertEquals("policies-1.json", manifest.getPolicies());
+        assertEquals("appointments-1.json", manifest.getAppointments());
+        assertSameData(original, new ShardedAddressBookStorage(directory).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_forcedToDisk_onlyManifestAndShardsLeft() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory, false,
+                SaveDurability.FSYNC_FILE_AND_DIR);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.removeAppointment(getAppointmentB());
+        storage.saveAddressBook(original);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(5, files.count());
+        }
+        assertSameData(original, new ShardedAddressBookStorage(directory).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_appointmentsChanged_onlyAppointmentsShardRewritten() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedAddressBookStorage(directory).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.readAddressBook();
+        original.addAppointment(getAppointmentD());
+        original.removeAppointment(getAppointmentB());
+        storage.saveAddressBook(original);
+
+        JsonSerializableShardManifest manifest = readManifest(directory);
+        assertEquals(2, manifest.getGeneration());
+        assertEquals("contracts-1.json", manifest.getContracts());
+        assertEquals("contacts-1.json", manifest.getContacts());
+        assertEquals("policies-1.json", manifest.getPolicies());
+        assertEquals("appointments-2.json", manifest.getAppointments());
+        assertFalse(Files.exists(directory.resolve("appointments-1.json")));
+        assertSameData(original, new ShardedAddressBookStorage(directory).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingWritten() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(1, readManifest(directory).getGeneration());
+    }
+
+    @Test
+    public void saveAddressBook_contractRemoved_contactShardRewritten() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Contract contract = original.getContractList().get(0);
+        original.removeContract(contract);
+        original.removeContractFromContact(contract);
+        original.removeContractFromPolicy(contract);
+        storage.saveAddressBook(original);
+
+        JsonSerializableShardManifest manifest = readManifest(directory);
+        assertNotEquals("contracts-1.json", manifest.getContracts());
+        assertNotEquals("contacts-1.json", manifest.getContacts());
+        assertNotEquals("policies-1.json", manifest.getPolicies());
+        assertEquals("appointments-1.json", manifest.getAppointments());
+        assertSameData(original, new ShardedAddressBookStorage(directory).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherDirectory_allShardsWritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("ab"));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Path otherDirectory = testFolder.resolve("backup");
+        storage.saveAddressBook(original, otherDirectory);
+
+        assertTrue(Files.exists(otherDirectory.resolve("contacts-1.json")));
+        assertSameData(original, storage.readAddressBook(otherDirectory).get());
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        new ShardedAddressBookStorage(directory).saveAddressBook(getTypicalAddressBook());
+        Files.delete(directory.resolve("policies-1.json"));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(directory).readAddressBook());
+    }
+
+    private static JsonSerializableShardManifest readManifest(Path directory) throws Exception {
+        return JsonUtil.readJsonFile(directory.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME),
+                JsonSerializableShardManifest.class).get();
+    }
+
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getContactList(), actual.getContactList());
+        assertEquals(expected.getPolicyList(), actual.getPolicyList());
+        assertEquals(expected.getContractList(), actual.getContractList());
+        assertEquals(expected.getAppointmentList(), actual.getAppointmentList());
+        for (int i = 0; i < expected.getContactList().size(); i++) {
+            assertEquals(expected.getContactList().get(i).getContracts(),
+                    actual.getContactList().get(i).getContracts());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalData.getAppointmentB;
+import static seedu.address.testutil.TypicalData.getAppointmentD;
+import static seedu.address.testutil.TypicalData.getContractD;
+import static seedu.address.testutil.TypicalData.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contract.Contract;
+import seedu.address.testutil.ContractBuilder;
+
+public class SqliteAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new SqliteAddressBookStorage(testFolder.resolve("ab.db")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_allRowsWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.db");
+        AddressBook original = getTypicalAddressBook();
+
+        new SqliteAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertSameData(original, new SqliteAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_appointmentsChanged_onlyAppointmentRowsWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.db");
+        AddressBook original = getTypicalAddressBook();
+        new SqliteAddressBookStorage(filePath).saveAddressBook(original);
+
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(filePath);
+        storage.readAddressBook();
+        original.addAppointment(getAppointmentD());
+        original.removeAppointment(getAppointmentB());
+        storage.saveAddressBook(original);
+
+        assertEquals(2, storage.getRowsWrittenByLastSave());
+        assertSameData(original, new SqliteAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingWritten() throws Exception {
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(testFolder.resolve("ab.db"));
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(0, storage.getRowsWrittenByLastSave());
+    }
+
+    @Test
+    public void saveAddressBook_contractRemoved_onlyContractRowDeleted() throws Exception {
+        Path filePath = testFolder.resolve("ab.db");
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Contract contract = original.getContractList().get(0);
+        original.removeContract(contract);
+        original.removeContractFromContact(contract);
+        original.removeContractFromPolicy(contract);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, storage.getRowsWrittenByLastSave());
+        assertSameData(original, new SqliteAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_contractsSharingId_allContractsKept() throws Exception {
+        Path filePath = testFolder.resolve("ab.db");
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Contract sharingId = new ContractBuilder(getContractD())
+                .withCId(original.getContractList().get(0).getCId().toString()).build();
+        original.addContract(sharingId);
+        original.addContractToContact(sharingId);
+        original.addContractToPolicy(sharingId);
+        storage.saveAddressBook(original);
+
+        assertSameData(original, new SqliteAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_contactsReordered_orderKept() throws Exception {
+        Path filePath = testFolder.resolve("ab.db");
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        List<Contact> reversed = new ArrayList<>(original.getContactList());
+        Collections.reverse(reversed);
+        original.setContacts(reversed);
+        storage.saveAddressBook(original);
+
+        assertSameData(original, new SqliteAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_contractWithoutContact_throwsIoExceptionAndKeepsDatabase() throws Exception {
+        Path filePath = testFolder.resolve("ab.db");
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook invalid = getTypicalAddressBook();
+        invalid.setContacts(Collections.emptyList());
+        invalid.addContract(getContractD());
+        assertThrows(IOException.class, () -> storage.saveAddressBook(invalid));
+
+        assertSameData(getTypicalAddressBook(), new SqliteAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_allRowsWritten() throws Exception {
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(testFolder.resolve("ab.db"));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Path otherPath = testFolder.resolve("backup.db");
+        storage.saveAddressBook(original, otherPath);
+
+        assertSameData(original, storage.readAddressBook(otherPath).get());
+    }
+
+    @Test
+    public void readAddressBook_notDatabase_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.db");
+        FileUtil.writeToFile(filePath, "{ \"contacts\": [] }");
+
+        assertThrows(DataLoadingException.class, () -> new SqliteAddressBookStorage(filePath).readAddressBook());
+    }
+
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getContactList(), actual.getContactList());
+        assertEquals(expected.getPolicyList(), actual.getPolicyList());
+        assertEquals(expected.getContractList(), actual.getContractList());
+        assertEquals(expected.getAppointmentList(), actual.getAppointmentList());
+        for (int i = 0; i < expected.getContactList().size(); i++) {
+            assertEquals(expected.getContactList().get(i).getContracts(),
+                    actual.getContactList().get(i).getContracts());
+        }
+    }
+}
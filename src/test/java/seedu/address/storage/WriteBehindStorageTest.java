@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalData.getAlice;
+import static seedu.address.testutil.TypicalData.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contract.Contract;
+
+public class WriteBehindStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteBehindStorage writeBehindStorage;
+
+    @AfterEach
+    public void tearDown() {
+        if (writeBehindStorage == null) {
+            return;
+        }
+        try {
+            writeBehindStorage.shutdown();
+        } catch (IOException e) {
+            // Failed writes are checked by the tests that cause them.
+        }
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_writesSnapshot() throws Exception {
+        writeBehindStorage = new WriteBehindStorage(new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))));
+        AddressBook original = getTypicalAddressBook();
+
+        writeBehindStorage.saveAddressBook(original);
+        original.removeContact(original.getContactList().get(0));
+        writeBehindStorage.flush();
+
+        ReadOnlyAddressBook retrieved = writeBehindStorage.readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(retrieved));
+    }
+
+    @Test
+    public void saveAddressBook_contractsChangedAfterSave_snapshotUnchanged() throws Exception {
+        BlockingAddressBookStorage blockingStorage = new BlockingAddressBookStorage(testFolder.resolve("ab"));
+        writeBehindStorage = new WriteBehindStorage(new StorageManager(blockingStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))));
+        AddressBook original = getTypicalAddressBook();
+        Contract contract = original.getContractList().get(0);
+
+        writeBehindStorage.saveAddressBook(original);
+        original.removeContract(contract);
+        original.removeContractFromContact(contract);
+        original.removeContractFromPolicy(contract);
+        blockingStorage.releaseWrite.countDown();
+        writeBehindStorage.flush();
+
+        ReadOnlyAddressBook saved = blockingStorage.saved.get(0);
+        assertEquals(getTypicalAddressBook(), new AddressBook(saved));
+        assertTrue(saved.getContactList().stream().anyMatch(c -> c.getContracts().contains(contract)));
+        assertTrue(saved.getPolicyList().stream().anyMatch(p -> p.getContracts().contains(contract)));
+    }
+
+    @Test
+    public void saveAddressBook_whileWriting_coalescesPendingSaves() throws Exception {
+        BlockingAddressBookStorage blockingStorage = new BlockingAddressBookStorage(testFolder.resolve("ab"));
+        writeBehindStorage = new WriteBehindStorage(new StorageManager(blockingStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))));
+        AddressBook addressBook = new AddressBook();
+
+        writeBehindStorage.saveAddressBook(addressBook);
+        blockingStorage.writeStarted.await();
+        addressBook.addContact(getAlice());
+        writeBehindStorage.saveAddressBook(addressBook);
+        writeBehindStorage.saveAddressBook(addressBook);
+        blockingStorage.releaseWrite.countDown();
+        writeBehindStorage.flush();
+
+        assertEquals(2, blockingStorage.saved.size());
+        assertEquals(0, blockingStorage.saved.get(0).getContactList().size());
+        assertEquals(1, blockingStorage.saved.get(1).getContactList().size());
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_reportsFailure() {
+        List<IOException> failures = new ArrayList<>();
+        writeBehindStorage = new WriteBehindStorage(new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                },
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))));
+        writeBehindStorage.setSaveFailureHandler(failures::add);
+
+        writeBehindStorage.saveAddressBook(new AddressBook());
+        writeBehindStorage.flush();
+
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), failures);
+    }
+
+    @Test
+    public void shutdown_lastWriteFailed_writesAgain() throws Exception {
+        Path filePath = testFolder.resolve("ab");
+        writeBehindStorage = new WriteBehindStorage(new StorageManager(new FailingAddressBookStorage(filePath, 1),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))));
+
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        writeBehindStorage.shutdown();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(new JsonAddressBookStorage(filePath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void shutdown_lastWriteFailsAgain_throwsIoException() {
+        writeBehindStorage = new WriteBehindStorage(new StorageManager(
+                new FailingAddressBookStorage(testFolder.resolve("ab"), 2),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))));
+
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(IOException.class, writeBehindStorage::shutdown);
+    }
+
+    @Test
+    public void shutdown_laterWriteSucceeded_doesNotThrow() throws Exception {
+        Path filePath = testFolder.resolve("ab");
+        writeBehindStorage = new WriteBehindStorage(new StorageManager(new FailingAddressBookStorage(filePath, 1),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))));
+
+        writeBehindStorage.saveAddressBook(new AddressBook());
+        writeBehindStorage.flush();
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        writeBehindStorage.shutdown();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(new JsonAddressBookStorage(filePath)
+                .readAddressBook().get()));
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} whose first writes fail.
+     */
+    private static class FailingAddressBookStorage extends JsonAddressBookStorage {
+        private int failuresLeft;
+
+        FailingAddressBookStorage(Path filePath, int failureCount) {
+            super(filePath);
+            failuresLeft = failureCount;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that records what it is asked to save and holds its first write
+     * until released.
+     */
+    private static class BlockingAddressBookStorage extends JsonAddressBookStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseWrite = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+
+        BlockingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            saved.add(addressBook);
+            writeStarted.countDown();
+            try {
+                releaseWrite.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}